@@ -0,0 +1,123 @@
+package benchmarks;
+
+import static pulse.properties.NumericProperties.derive;
+import static pulse.properties.NumericPropertyKeyword.DENSITY;
+import static pulse.properties.NumericPropertyKeyword.DIFFUSIVITY;
+import static pulse.properties.NumericPropertyKeyword.HEAT_LOSS;
+import static pulse.properties.NumericPropertyKeyword.MAXTEMP;
+import static pulse.properties.NumericPropertyKeyword.SPECIFIC_HEAT;
+import static pulse.properties.NumericPropertyKeyword.TIME_LIMIT;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.util.Random;
+
+import pulse.problem.schemes.solvers.ImplicitLinearisedSolver;
+import pulse.problem.schemes.solvers.SolverException;
+import pulse.problem.statements.ClassicalProblem;
+import pulse.problem.statements.Problem;
+import pulse.search.direction.PathOptimiser;
+import pulse.search.linear.WolfeOptimiser;
+import pulse.search.statistics.CorrelationTest;
+import pulse.search.statistics.NormalityTest;
+import pulse.search.statistics.ResidualStatistic;
+import pulse.util.Reflexive;
+
+/**
+ * Shared set-up for the benchmarks. All data is either bundled with the
+ * application or generated deterministically, so that the results of
+ * different runs can be compared.
+ */
+
+public class BenchmarkData {
+
+	private final static long SEED = 1L;
+	private final static double NOISE = 0.01;
+
+	private BenchmarkData() {
+		// intentionally blank
+	}
+
+	/**
+	 * Sets the thermal properties, which have no sensible defaults for the
+	 * nonlinear problem statements.
+	 *
+	 * @param p a problem statement
+	 */
+
+	public static void configure(Problem p) {
+		var properties = p.getProperties();
+		properties.setSpecificHeat(derive(SPECIFIC_HEAT, 540.0));
+		properties.setDensity(derive(DENSITY, 10000.0));
+	}
+
+	/**
+	 * Loads the reduced temperature profile used by the validation tests.
+	 *
+	 * @return the bundled {@code TestSolution.dat} profile
+	 * @throws IOException if the resource cannot be read
+	 */
+
+	public static double[] loadTestProfile() throws IOException {
+		try (var reader = new BufferedReader(
+				new InputStreamReader(BenchmarkData.class.getResourceAsStream("/test/TestSolution.dat")))) {
+			return reader.lines().filter(line -> !line.isBlank())
+					.mapToDouble(line -> Double.parseDouble(line.trim().split("\\s+")[0])).toArray();
+		}
+	}
+
+	/**
+	 * Writes a heating curve in the {@code .dat} format. The curve is the solution
+	 * of a {@code ClassicalProblem} with known parameters plus a reproducible
+	 * Gaussian noise.
+	 *
+	 * @param file the target file
+	 * @throws IOException     if the file cannot be written
+	 * @throws SolverException if the problem cannot be solved
+	 */
+
+	public static void writeSyntheticCurve(File file) throws IOException, SolverException {
+		var p = new ClassicalProblem();
+		p.getProperties().setDiffusivity(derive(DIFFUSIVITY, 2.5e-6));
+		p.getProperties().setHeatLoss(derive(HEAT_LOSS, 0.1));
+		p.getProperties().setMaximumTemperature(derive(MAXTEMP, 1.0));
+
+		var scheme = new ImplicitLinearisedSolver();
+		scheme.setTimeLimit(derive(TIME_LIMIT, 0.6));
+		scheme.solve(p);
+
+		var spline = p.getHeatingCurve().getSplineInterpolation();
+		var random = new Random(SEED);
+
+		try (var writer = new PrintWriter(file)) {
+			writer.println("25.0");
+			for (int i = 50; i > 0; i--)
+				writer.printf("%e\t%e%n", -0.001 * i, NOISE * random.nextGaussian());
+			for (int i = 0; i < 550; i++)
+				writer.printf("%e\t%e%n", 0.001 * i, spline.value(0.001 * i) + NOISE * random.nextGaussian());
+		}
+	}
+
+	/**
+	 * Selects the statistics and the optimiser in the same way as the GUI does by
+	 * default, but with the specified {@code PathOptimiser}.
+	 *
+	 * @param optimiser the simple class name of a {@code PathOptimiser}
+	 */
+
+	public static void selectOptimiser(String optimiser) {
+		ResidualStatistic.setSelectedOptimiserDescriptor("Ordinary least squares");
+		NormalityTest.setSelectedTestDescriptor("Kolmogorov-Smirnov test");
+		CorrelationTest.setSelectedTestDescriptor("Pearson's Product-Moment Correlation");
+
+		var instance = Reflexive.instancesOf(PathOptimiser.class).stream()
+				.filter(o -> o.getClass().getSimpleName().equals(optimiser)).findFirst()
+				.orElseThrow(() -> new IllegalArgumentException("Unknown optimiser: " + optimiser));
+		PathOptimiser.setInstance(instance);
+		instance.setLinearSolver(WolfeOptimiser.getInstance());
+	}
+
+}
@@ -0,0 +1,79 @@
+package benchmarks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static pulse.properties.NumericProperties.derive;
+import static pulse.properties.NumericPropertyKeyword.GRID_DENSITY;
+import static pulse.properties.NumericPropertyKeyword.OPTICAL_THICKNESS;
+import static pulse.properties.NumericPropertyKeyword.SCATTERING_ALBEDO;
+import static pulse.properties.NumericPropertyKeyword.TEST_TEMPERATURE;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pulse.problem.schemes.Grid;
+import pulse.problem.schemes.rte.RTECalculationStatus;
+import pulse.problem.schemes.rte.RadiativeTransferSolver;
+import pulse.problem.schemes.solvers.ImplicitCoupledSolver;
+import pulse.problem.statements.ParticipatingMedium;
+import pulse.problem.statements.ThermoOpticalProperties;
+
+/**
+ * Measures the time needed to calculate the radiative fluxes for the bundled
+ * temperature profile in a non-scattering medium. This is the profile used by
+ * the validation tests.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class RadiativeTransferBenchmark {
+
+	@Param({ "dom.DiscreteOrdinatesMethod", "exact.NonscatteringDiscreteDerivatives",
+			"exact.NonscatteringAnalyticalDerivatives" })
+	private String solverClass;
+
+	@Param({ "0.1", "1.5" })
+	private double opticalThickness;
+
+	private double[] profile;
+	private RadiativeTransferSolver rte;
+
+	@Setup
+	public void setUp() throws IOException, ReflectiveOperationException {
+		profile = BenchmarkData.loadTestProfile();
+
+		var problem = new ParticipatingMedium();
+		BenchmarkData.configure(problem);
+		var properties = (ThermoOpticalProperties) problem.getProperties();
+		properties.setTestTemperature(derive(TEST_TEMPERATURE, 800.0));
+		properties.setScatteringAlbedo(derive(SCATTERING_ALBEDO, 0.0));
+		properties.setOpticalThickness(derive(OPTICAL_THICKNESS, opticalThickness));
+
+		var grid = new ImplicitCoupledSolver().getGrid();
+		grid.setGridDensity(derive(GRID_DENSITY, profile.length - 1));
+
+		rte = (RadiativeTransferSolver) Class.forName("pulse.problem.schemes.rte." + solverClass)
+				.getConstructor(ParticipatingMedium.class, Grid.class).newInstance(problem, grid);
+		rte.init(problem, grid);
+	}
+
+	@Benchmark
+	public RTECalculationStatus compute() {
+		return rte.compute(profile);
+	}
+
+}
@@ -0,0 +1,101 @@
+package benchmarks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pulse.input.ExperimentalData;
+import pulse.io.readers.DATReader;
+import pulse.io.readers.LFRReader;
+
+/**
+ * Measures the parsing of experimental data files. The files are generated
+ * with a fixed seed before the measurement: a single {@code .dat} curve and a
+ * Linseis {@code .lfr} summary referring to several curves.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ReaderBenchmark {
+
+	private final static int POINTS = 5000;
+	private final static int LFR_CURVES = 10;
+
+	private File directory;
+	private File datFile;
+	private File lfrFile;
+
+	@Setup
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("benchmark").toFile();
+		var random = new Random(1L);
+
+		datFile = new File(directory, "curve.dat");
+
+		try (var writer = new PrintWriter(datFile)) {
+			writer.println("25.0");
+			for (int i = 0; i < POINTS; i++)
+				writer.printf("%e\t%e%n", 1E-4 * i, signal(1E-4 * i, random));
+		}
+
+		lfrFile = new File(directory, "summary.lfr");
+
+		try (var writer = new PrintWriter(lfrFile)) {
+			writer.println("Linseis");
+			writer.println("Id;File;Sample;Temperature");
+			for (int j = 0; j < LFR_CURVES; j++)
+				writer.printf("%d;shot%d.txt;1;%d%n", j, j, 25 + 50 * j);
+		}
+
+		for (int j = 0; j < LFR_CURVES; j++)
+			try (var writer = new PrintWriter(new File(directory, "shot" + j + ".txt"))) {
+				writer.println("Time;Signal");
+				for (int i = 0; i < POINTS; i++)
+					writer.printf("%e;%e%n", 0.1 * i, signal(1E-4 * i, random));
+			}
+
+	}
+
+	private static double signal(double t, Random random) {
+		return 1.0 - Math.exp(-t / 0.1) + 0.01 * random.nextGaussian();
+	}
+
+	@TearDown
+	public void tearDown() {
+		for (var f : directory.listFiles())
+			f.delete();
+		directory.delete();
+	}
+
+	@Benchmark
+	public List<ExperimentalData> readDat() throws IOException {
+		return DATReader.getInstance().read(datFile);
+	}
+
+	@Benchmark
+	public List<ExperimentalData> readLfr() throws IOException {
+		return LFRReader.getInstance().read(lfrFile);
+	}
+
+}
@@ -0,0 +1,82 @@
+package benchmarks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pulse.io.readers.DATReader;
+import pulse.problem.schemes.solvers.ImplicitLinearisedSolver;
+import pulse.problem.schemes.solvers.SolverException;
+import pulse.problem.statements.ClassicalProblem;
+import pulse.tasks.SearchTask;
+import pulse.tasks.TaskManager;
+import pulse.tasks.logs.Status;
+
+/**
+ * Measures a complete {@code SearchTask} run, i.e. the fitting of a
+ * {@code ClassicalProblem} to a synthetic heating curve with the default
+ * settings, starting from the default parameters each time.
+ */
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchTaskBenchmark {
+
+	@Param({ "ApproximatedHessianOptimiser", "LevenbergMarquardtOptimiser" })
+	private String optimiser;
+
+	private File file;
+	private SearchTask task;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException, SolverException {
+		BenchmarkData.selectOptimiser(optimiser);
+		file = File.createTempFile("benchmark", ".dat");
+		BenchmarkData.writeSyntheticCurve(file);
+	}
+
+	@Setup(Level.Invocation)
+	public void createTask() throws IOException {
+		task = new SearchTask(DATReader.getInstance().read(file).get(0));
+		TaskManager.getManagerInstance().addTask(task); // the log entries refer to the task repository
+		task.setProblem(new ClassicalProblem());
+		task.setScheme(new ImplicitLinearisedSolver());
+		task.checkProblems();
+	}
+
+	@TearDown(Level.Invocation)
+	public void removeTask() {
+		TaskManager.getManagerInstance().removeTask(task);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		file.delete();
+	}
+
+	@Benchmark
+	public Status run() {
+		task.run();
+		return task.getStatus();
+	}
+
+}
@@ -0,0 +1,60 @@
+package benchmarks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pulse.HeatingCurve;
+import pulse.problem.schemes.solvers.Solver;
+import pulse.problem.schemes.solvers.SolverException;
+import pulse.problem.statements.Problem;
+
+/**
+ * Measures the time needed to solve a problem statement with each of the
+ * difference schemes available for it.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class SolverBenchmark {
+
+	@Param({ "ClassicalProblem/ImplicitLinearisedSolver", "ClassicalProblem/ExplicitLinearisedSolver",
+			"ClassicalProblem/MixedLinearisedSolver", "NonlinearProblem/ImplicitNonlinearSolver",
+			"NonlinearProblem/ExplicitNonlinearSolver", "ParticipatingMedium/ImplicitCoupledSolver",
+			"ParticipatingMedium/ExplicitCoupledSolver", "ParticipatingMedium/MixedCoupledSolver" })
+	private String configuration;
+
+	private Problem problem;
+	private Solver<Problem> solver;
+
+	@SuppressWarnings("unchecked")
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		var names = configuration.split("/");
+		problem = (Problem) Class.forName("pulse.problem.statements." + names[0]).getConstructor().newInstance();
+		BenchmarkData.configure(problem);
+		solver = (Solver<Problem>) Class.forName("pulse.problem.schemes.solvers." + names[1]).getConstructor()
+				.newInstance();
+	}
+
+	@Benchmark
+	public HeatingCurve solve() throws SolverException {
+		solver.solve(problem);
+		return problem.getHeatingCurve();
+	}
+
+}
@@ -1,15 +1,19 @@
 package pulse;
 
 import static java.lang.Math.abs;
-import static java.util.Collections.max;
+import static java.lang.Math.max;
 import static pulse.properties.NumericProperties.def;
 import static pulse.properties.NumericProperties.derive;
 import static pulse.properties.NumericProperty.requireType;
 import static pulse.properties.NumericPropertyKeyword.NUMPOINTS;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
 
 import pulse.properties.NumericProperty;
 import pulse.properties.NumericPropertyKeyword;
@@ -24,21 +28,31 @@ import pulse.util.PropertyHolder;
  * the temperature can be arbitrary, and only the shape of the heating curve
  * matters when calculating the reverse solution of the heat problem.
  * </p>
+ * <p>
+ * The values are stored in growable primitive arrays. Clearing the data does
+ * not release the arrays, so that a curve which is repeatedly re-calculated
+ * does not need to allocate any memory once it has reached its full size.
+ * </p>
  *
  */
 
 public abstract class AbstractData extends PropertyHolder {
 
 	private int count;
+	private int size;
 
-	private List<Double> time;
-	private List<Double> signal;
+	private double[] time;
+	private double[] signal;
 	
 	private String name;
 	
-	protected AbstractData(List<Double> time, String name) {
+	private final static int MIN_CAPACITY = 16;
+	
+	protected AbstractData(double[] time, double[] signal, String name) {
 		this.time = time;
-		this.count = time.size();
+		this.signal = signal;
+		this.count = time.length;
+		this.size = time.length;
 		this.name = name;
 	}
 	
@@ -63,27 +77,42 @@ public abstract class AbstractData extends PropertyHolder {
 
 	public AbstractData(NumericProperty count) {
 		setNumPoints(count);
-		time = new ArrayList<>(this.count);
-		signal = new ArrayList<>(this.count);		
+		time = new double[max(this.count, MIN_CAPACITY)];
+		signal = new double[time.length];
 	}
 	
 	/**
-	 * The actual number of points, explicitly calculated as the size of the internal lists.
+	 * The actual number of points, which are currently stored.
 	 * @return an integer size equal to the real number of elements (pairs)
 	 */
 	
 	public int actualNumPoints() {
-		return time.size();
+		return size;
 	}
 	
 	/**
-	 * Clears all elements from the three {@code List} objects, thus releasing
-	 * memory.
+	 * Removes all points from this data. The storage is retained and will be
+	 * re-used when new points are added.
 	 */
 
 	public void clear() {
-		this.time.clear();
-		this.signal.clear();
+		size = 0;
+	}
+	
+	/**
+	 * Makes sure the internal arrays can hold at least {@code capacity} elements.
+	 * Subclasses storing additional arrays of the same size should override this
+	 * method.
+	 * 
+	 * @param capacity the required capacity
+	 */
+	
+	protected void ensureCapacity(int capacity) {
+		if (capacity > time.length) {
+			int newCapacity = max(capacity, time.length + (time.length >> 1));
+			time = Arrays.copyOf(time, newCapacity);
+			signal = Arrays.copyOf(signal, newCapacity);
+		}
 	}
 	
 	/**
@@ -121,7 +150,8 @@ public abstract class AbstractData extends PropertyHolder {
 	 */
 
 	public double timeAt(int index) {
-		return time.get(index);
+		Objects.checkIndex(index, size);
+		return time[index];
 	}
 	
 	/**
@@ -134,7 +164,7 @@ public abstract class AbstractData extends PropertyHolder {
 	 */
 
 	public double timeLimit() {
-		return timeAt(time.size() - 1);
+		return timeAt(size - 1);
 	}
 
 	/**
@@ -147,12 +177,50 @@ public abstract class AbstractData extends PropertyHolder {
 	 */
 
 	public double signalAt(int index) {
-		return signal.get(index);
+		Objects.checkIndex(index, size);
+		return signal[index];
 	}
 
 	public void addPoint(double time, double temperature) {
-		this.time.add(time);
-		this.signal.add(temperature);
+		ensureCapacity(size + 1);
+		this.time[size] = time;
+		this.signal[size] = temperature;
+		size++;
+	}
+
+	/**
+	 * Inserts a point at the position {@code index}, shifting the subsequent
+	 * points to the right.
+	 * 
+	 * @param index       the index of the new point
+	 * @param time        the time value
+	 * @param temperature the signal value
+	 */
+
+	protected void insertPoint(int index, double time, double temperature) {
+		Objects.checkIndex(index, size + 1);
+		ensureCapacity(size + 1);
+		System.arraycopy(this.time, index, this.time, index + 1, size - index);
+		System.arraycopy(this.signal, index, this.signal, index + 1, size - index);
+		this.time[index] = time;
+		this.signal[index] = temperature;
+		size++;
+	}
+
+	/**
+	 * Replaces the stored points with the first {@code size} elements of
+	 * {@code time} and {@code signal}.
+	 *
+	 * @param time   the time values
+	 * @param signal the signal values
+	 * @param size   the number of points
+	 */
+
+	protected void setData(double[] time, double[] signal, int size) {
+		ensureCapacity(size);
+		System.arraycopy(time, 0, this.time, 0, size);
+		System.arraycopy(signal, 0, this.signal, 0, size);
+		this.size = size;
 	}
 
 	protected void incrementCount() {
@@ -168,7 +236,8 @@ public abstract class AbstractData extends PropertyHolder {
 	 */
 
 	public void setTimeAt(int index, double t) {
-		time.set(index, t);
+		Objects.checkIndex(index, size);
+		time[index] = t;
 	}
 
 	/**
@@ -180,15 +249,16 @@ public abstract class AbstractData extends PropertyHolder {
 	 */
 
 	public void setSignalAt(int index, double t) {
-		signal.set(index, t);
+		Objects.checkIndex(index, size);
+		signal[index] = t;
 	}
 	
 	public double apparentMaximum() {
-		return max(signal);
+		return maximum(signal, size);
 	}
 
 	public boolean isIncomplete() {
-		return time.size() < count;
+		return size < count;
 	}
 	
 	@Override
@@ -231,8 +301,10 @@ public abstract class AbstractData extends PropertyHolder {
 	 */
 
 	public void remove(int i) {
-		this.time.remove(i);
-		this.signal.remove(i);
+		Objects.checkIndex(i, size);
+		System.arraycopy(time, i + 1, time, i, size - i - 1);
+		System.arraycopy(signal, i + 1, signal, i, size - i - 1);
+		size--;
 	}
 	
 	@Override
@@ -240,13 +312,97 @@ public abstract class AbstractData extends PropertyHolder {
 		return true;
 	}
 
+	/**
+	 * Provides a read-only {@code List} view of the time sequence. The view always
+	 * reflects the current state of this data.
+	 * 
+	 * @return a view of the time values
+	 * @see timeData()
+	 */
+
 	public List<Double> getTimeSequence() {
-		return time;
+		return view(i -> time[i], () -> size);
 	}
 
+	/**
+	 * Provides a read-only {@code List} view of the signal values. The view always
+	 * reflects the current state of this data.
+	 * 
+	 * @return a view of the signal values
+	 * @see signalData()
+	 */
+
 	public List<Double> getSignalData() {
+		return view(i -> signal[i], () -> size);
+	}
+
+	/**
+	 * Provides direct access to the array storing the time values. Only the first
+	 * {@code actualNumPoints()} elements of the array are meaningful. The array
+	 * may be replaced when new points are added, so it should not be retained.
+	 * 
+	 * @return the internal time array
+	 */
+
+	public double[] timeData() {
+		return time;
+	}
+
+	/**
+	 * Provides direct access to the array storing the signal values. Only the
+	 * first {@code actualNumPoints()} elements of the array are meaningful. The
+	 * array may be replaced when new points are added, so it should not be
+	 * retained.
+	 * 
+	 * @return the internal signal array
+	 */
+
+	public double[] signalData() {
 		return signal;
 	}
+
+	/**
+	 * Finds the maximum among the first {@code size} elements of {@code data}.
+	 * 
+	 * @param data an array
+	 * @param size the number of elements to consider
+	 * @return the maximum value
+	 */
+
+	protected static double maximum(double[] data, int size) {
+		double max = Double.NEGATIVE_INFINITY;
+
+		for (int i = 0; i < size; i++)
+			if (data[i] > max)
+				max = data[i];
+
+		return max;
+	}
+
+	/**
+	 * Creates a read-only {@code List} view backed by the primitive storage.
+	 * 
+	 * @param element a function returning the element at the specified index
+	 * @param size    supplies the current number of elements
+	 * @return a {@code List} view
+	 */
+
+	protected static List<Double> view(IntToDoubleFunction element, IntSupplier size) {
+		return new AbstractList<Double>() {
+
+			@Override
+			public Double get(int index) {
+				Objects.checkIndex(index, size.getAsInt());
+				return element.applyAsDouble(index);
+			}
+
+			@Override
+			public int size() {
+				return size.getAsInt();
+			}
+
+		};
+	}
 	
 	@Override
 	public boolean equals(Object o) {
@@ -263,13 +419,11 @@ public abstract class AbstractData extends PropertyHolder {
 		if (abs(count - (Integer) other.getNumPoints().getValue()) > EPS)
 			return false;
 
-		if (signal.hashCode() != other.signal.hashCode())
-			return false;
-
-		if (time.hashCode() != other.time.hashCode())
+		if (size != other.size)
 			return false;
 
-		return time.containsAll(other.time) && signal.containsAll(other.signal);
+		return Arrays.equals(time, 0, size, other.time, 0, size)
+				&& Arrays.equals(signal, 0, size, other.signal, 0, size);
 
 	}
 	
@@ -1,7 +1,5 @@
 package pulse;
 
-import static java.util.Collections.max;
-import static java.util.stream.Collectors.toList;
 import static pulse.input.listeners.CurveEventType.RESCALED;
 import static pulse.input.listeners.CurveEventType.TIME_ORIGIN_CHANGED;
 import static pulse.properties.NumericProperties.def;
@@ -10,15 +8,14 @@ import static pulse.properties.NumericProperty.requireType;
 import static pulse.properties.NumericPropertyKeyword.TIME_SHIFT;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-
-import org.apache.commons.math3.analysis.UnivariateFunction;
-import org.apache.commons.math3.analysis.interpolation.SplineInterpolator;
-import org.apache.commons.math3.analysis.interpolation.UnivariateInterpolator;
+import java.util.Objects;
 
 import pulse.baseline.Baseline;
 import pulse.input.ExperimentalData;
 import pulse.input.listeners.CurveEvent;
+import pulse.math.CubicSpline;
 import pulse.properties.NumericProperty;
 import pulse.properties.NumericPropertyKeyword;
 import pulse.properties.Property;
@@ -31,24 +28,25 @@ import pulse.properties.Property;
 
 public class HeatingCurve extends AbstractData {
 
-	private List<Double> adjustedSignal;
+	private double[] adjustedSignal;
 	private double startTime;
 
 	private List<HeatingCurveListener> listeners = new ArrayList<HeatingCurveListener>();
 
-	private UnivariateInterpolator splineInterpolator;
-	private UnivariateFunction splineInterpolation;
+	private final CubicSpline[] splines = { new CubicSpline(), new CubicSpline() };
+	private volatile CubicSpline splineInterpolation = splines[0];
+	private double[] timeExtended;
+	private double[] adjustedSignalExtended;
 
-	protected HeatingCurve(List<Double> time, List<Double> signal, final double startTime, String name) {
-		super(time, name);
+	protected HeatingCurve(double[] time, double[] signal, final double startTime, String name) {
+		super(time, signal.clone(), name);
 		this.adjustedSignal = signal;
 		this.startTime = startTime;
 	}
 	
 	public HeatingCurve() {
 		super();
-		adjustedSignal = new ArrayList<Double>((int)this.getNumPoints().getValue());
-		splineInterpolator = new SplineInterpolator();
+		adjustedSignal = new double[timeData().length];
 	}
 
 	/**
@@ -64,16 +62,17 @@ public class HeatingCurve extends AbstractData {
 		super(count);
 		setPrefix("Solution");
 
-		adjustedSignal = new ArrayList<>((int)count.getValue());
+		adjustedSignal = new double[timeData().length];
 		startTime = (double) def(TIME_SHIFT).getValue();
 
-		splineInterpolator = new SplineInterpolator();
 	}
 
 	@Override
-	public void clear() {
-		super.clear();
-		this.adjustedSignal.clear();
+	protected void ensureCapacity(int capacity) {
+		super.ensureCapacity(capacity);
+		final int length = timeData().length;
+		if (adjustedSignal != null && adjustedSignal.length < length)
+			adjustedSignal = Arrays.copyOf(adjustedSignal, length);
 	}
 
 	/**
@@ -95,8 +94,10 @@ public class HeatingCurve extends AbstractData {
 	 *         {@code index}
 	 */
 
+	@Override
 	public double signalAt(int index) {
-		return adjustedSignal.get(index);
+		Objects.checkIndex(index, actualNumPoints());
+		return adjustedSignal[index];
 	}
 
 	/**
@@ -118,24 +119,40 @@ public class HeatingCurve extends AbstractData {
 	 */
 
 	public void scale(double scale) {
-		var signal = getSignalData();
+		var signal = signalData();
 		final int count = this.actualNumPoints();
 		for (int i = 0; i < count; i++)
-			signal.set(i, signal.get(i) * scale);
+			signal[i] *= scale;
 		var dataEvent = new CurveEvent(RESCALED, this);
 		fireCurveEvent(dataEvent);
 	}
 
+	/**
+	 * Recalculates the spline interpolation of the baseline-adjusted signal. The
+	 * spline is extended by one point to the left by linear extrapolation. The
+	 * extended arrays are re-used between successive calls.
+	 * <p>
+	 * Two splines are used in turn: the one not currently published is updated in
+	 * place and then published, so that readers on other threads never see a
+	 * partially updated interpolation. Neither spline allocates memory once the
+	 * number of points has settled, and the factorisation of each is re-used while
+	 * the time points do not change.
+	 * </p>
+	 */
+
 	private void refreshInterpolation() {
+		final int size = this.actualNumPoints();
+
+		if (timeExtended == null || timeExtended.length < size + 1) {
+			timeExtended = new double[size + 1];
+			adjustedSignalExtended = new double[size + 1];
+		}
 
 		/*
 		 * Prepare extended time array
 		 */
 
-		var time = this.getTimeSequence();
-		var timeExtended = new double[time.size() + 1];
-
-		for (int i = 1; i < timeExtended.length; i++)
+		for (int i = 1; i < size + 1; i++)
 			timeExtended[i] = timeAt(i - 1);
 
 		final double dt = timeExtended[2] - timeExtended[1];
@@ -145,10 +162,7 @@ public class HeatingCurve extends AbstractData {
 		 * Prepare extended signal array
 		 */
 
-		var adjustedSignalExtended = new double[adjustedSignal.size() + 1];
-
-		for (int i = 1; i < timeExtended.length; i++)
-			adjustedSignalExtended[i] = signalAt(i - 1);
+		System.arraycopy(adjustedSignal, 0, adjustedSignalExtended, 1, size);
 
 		final double alpha = -1.0;
 		adjustedSignalExtended[0] = alpha * adjustedSignalExtended[2] - (1.0 - alpha) * adjustedSignalExtended[1]; // extrapolate
@@ -158,7 +172,9 @@ public class HeatingCurve extends AbstractData {
 		 * Submit to spline interpolation
 		 */
 
-		splineInterpolation = splineInterpolator.interpolate(timeExtended, adjustedSignalExtended);
+		var spline = splineInterpolation == splines[0] ? splines[1] : splines[0];
+		spline.update(timeExtended, adjustedSignalExtended, size + 1);
+		splineInterpolation = spline;
 	}
 
 	/**
@@ -169,7 +185,7 @@ public class HeatingCurve extends AbstractData {
 	 */
 
 	public double maxAdjustedSignal() {
-		return max(adjustedSignal);
+		return maximum(adjustedSignal, actualNumPoints());
 	}
 
 	/**
@@ -184,19 +200,26 @@ public class HeatingCurve extends AbstractData {
 	 * 
 	 * @param baseline the baseline. Note it may not specifically belong to this
 	 *                 heating curve.
+	 * @throws IllegalStateException if this curve contains no points
 	 */
 
 	public void apply(Baseline baseline) {
-		var time = this.getTimeSequence();
-		var signal = this.getSignalData();
-		adjustedSignal.clear();
-		for (int i = 0, size = time.size(); i < size; i++) 
-			adjustedSignal.add(signal.get(i) + baseline.valueAt(timeAt(i)));
-
-		if (time.get(0) > -startTime) {
-			time.add(0, -startTime);
-			adjustedSignal.add(0, baseline.valueAt(-startTime));
-		}
+
+		if (actualNumPoints() == 0)
+			throw new IllegalStateException("Cannot apply a baseline to an empty heating curve");
+
+		final boolean extend = timeData()[0] > -startTime;
+
+		if (extend)
+			insertPoint(0, -startTime, 0.0);
+
+		var signal = signalData();
+
+		for (int i = extend ? 1 : 0, size = actualNumPoints(); i < size; i++)
+			adjustedSignal[i] = signal[i] + baseline.valueAt(timeAt(i));
+
+		if (extend)
+			adjustedSignal[0] = baseline.valueAt(-startTime);
 
 		refreshInterpolation();
 	}
@@ -227,15 +250,29 @@ public class HeatingCurve extends AbstractData {
 		if (dataStartIndex < 1) // no extension required
 			return this;
 
-		var baselineTime = data.getTimeSequence().stream().filter(t -> t < 0).collect(toList());
-		var baselineSignal = baselineTime.stream().map(bTime -> baseline.valueAt(bTime)).collect(toList());
+		var dataTime = data.timeData();
+		int negative = 0;
 
-		var time = this.getTimeSequence();
-		
-		baselineTime.addAll(time);
-		baselineSignal.addAll(adjustedSignal);
+		for (int i = 0, size = data.actualNumPoints(); i < size; i++)
+			if (dataTime[i] < 0)
+				negative++;
+
+		final int size = actualNumPoints();
+		var extendedTime = new double[negative + size];
+		var extendedSignal = new double[negative + size];
+
+		for (int i = 0, j = 0; j < negative; i++) {
+			if (dataTime[i] < 0) {
+				extendedTime[j] = dataTime[i];
+				extendedSignal[j] = baseline.valueAt(dataTime[i]);
+				j++;
+			}
+		}
+
+		System.arraycopy(timeData(), 0, extendedTime, negative, size);
+		System.arraycopy(adjustedSignal, 0, extendedSignal, negative, size);
 
-		return new HeatingCurve(baselineTime, baselineSignal, startTime, getName());
+		return new HeatingCurve(extendedTime, extendedSignal, startTime, getName());
 	}
 
 	/**
@@ -268,9 +305,10 @@ public class HeatingCurve extends AbstractData {
 	 * @param i the element to be removed
 	 */
 
+	@Override
 	public void remove(int i) {
 		super.remove(i);
-		this.adjustedSignal.remove(i);
+		System.arraycopy(adjustedSignal, i + 1, adjustedSignal, i, actualNumPoints() - i);
 	}
 
 	public NumericProperty getTimeShift() {
@@ -285,14 +323,70 @@ public class HeatingCurve extends AbstractData {
 		firePropertyChanged(this, startTime);
 	}
 
-	public UnivariateFunction getSplineInterpolation() {
+	/**
+	 * Retrieves the current interpolation of the baseline-adjusted signal. The
+	 * returned spline is left unchanged by the next refresh of this curve, but is
+	 * re-used by the one after that. It should therefore be retrieved anew for
+	 * each evaluation rather than retained.
+	 * 
+	 * @return the spline interpolation
+	 */
+
+	public CubicSpline getSplineInterpolation() {
 		return splineInterpolation;
 	}
 
+	/**
+	 * Provides a read-only {@code List} view of the baseline-adjusted signal.
+	 * 
+	 * @return a view of the baseline-adjusted signal values
+	 */
+
 	public List<Double> getAlteredSignalData() {
+		return view(i -> adjustedSignal[i], () -> actualNumPoints());
+	}
+
+	/**
+	 * Provides direct access to the array storing the baseline-adjusted signal.
+	 * Only the first {@code actualNumPoints()} elements of the array are
+	 * meaningful.
+	 * 
+	 * @return the internal array of baseline-adjusted signal values
+	 */
+
+	public double[] adjustedSignalData() {
 		return adjustedSignal;
 	}
 
+	/**
+	 * Creates a copy of the points of this curve, including the
+	 * baseline-adjusted signal, which can later be restored with
+	 * {@code restore(Snapshot)}.
+	 * 
+	 * @return a snapshot of this curve
+	 */
+
+	public Snapshot snapshot() {
+		final int size = actualNumPoints();
+		return new Snapshot(Arrays.copyOf(timeData(), size), Arrays.copyOf(signalData(), size),
+				Arrays.copyOf(adjustedSignal, size));
+	}
+
+	/**
+	 * Replaces the points of this curve with those stored in {@code snapshot} and
+	 * recalculates the spline interpolation. No events are fired.
+	 * 
+	 * @param snapshot a snapshot previously taken from a curve with the same time
+	 *                 shift
+	 */
+
+	public void restore(Snapshot snapshot) {
+		final int size = snapshot.time.length;
+		setData(snapshot.time, snapshot.signal, size);
+		System.arraycopy(snapshot.adjustedSignal, 0, adjustedSignal, 0, size);
+		refreshInterpolation();
+	}
+
 	public void addHeatingCurveListener(HeatingCurveListener l) {
 		this.listeners.add(l);
 	}
@@ -311,7 +405,26 @@ public class HeatingCurve extends AbstractData {
 		if(! (o instanceof HeatingCurve ))
 			return false;
 		
-		return super.equals(o) && adjustedSignal.containsAll( ((HeatingCurve)o).adjustedSignal);
+		final int size = actualNumPoints();
+		return super.equals(o) && Arrays.equals(adjustedSignal, 0, size, ((HeatingCurve) o).adjustedSignal, 0, size);
+	}
+
+	/**
+	 * An immutable copy of the points of a {@code HeatingCurve}.
+	 */
+
+	public static class Snapshot {
+
+		private final double[] time;
+		private final double[] signal;
+		private final double[] adjustedSignal;
+
+		private Snapshot(double[] time, double[] signal, double[] adjustedSignal) {
+			this.time = time;
+			this.signal = signal;
+			this.adjustedSignal = adjustedSignal;
+		}
+
 	}
 
 }
\ No newline at end of file
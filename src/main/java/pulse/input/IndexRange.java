@@ -3,6 +3,7 @@ package pulse.input;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.function.IntToDoubleFunction;
 
 /**
  * Provides a way to define the indices corresponding to a certain range of
@@ -196,10 +197,44 @@ public class IndexRange {
 		return closest(of, in, true);
 	}
 
+	/**
+	 * Same as {@code closestLeft(double, List)}, but operates on the first
+	 * {@code size} elements of a primitive array.
+	 * 
+	 * @param of   an element which will be compared against
+	 * @param in   an array presumably containing an element similar to {@code of}
+	 * @param size the number of elements in {@code in} to consider
+	 * @return the index, as specified by {@code closestLeft(double, List)}
+	 * @see closestLeft(double, List)
+	 */
+
+	public static int closestLeft(double of, double[] in, int size) {
+		return closest(of, i -> in[i], size, false);
+	}
+
+	/**
+	 * Same as {@code closestRight(double, List)}, but operates on the first
+	 * {@code size} elements of a primitive array.
+	 * 
+	 * @param of   an element which will be compared against
+	 * @param in   an array presumably containing an element similar to {@code of}
+	 * @param size the number of elements in {@code in} to consider
+	 * @return the index, as specified by {@code closestRight(double, List)}
+	 * @see closestRight(double, List)
+	 */
+
+	public static int closestRight(double of, double[] in, int size) {
+		return closest(of, i -> in[i], size, true);
+	}
+
 	private static int closest(double of, List<Double> in, boolean reverseOrder) {
-		int sizeMinusOne = in.size() - 1;
+		return closest(of, i -> in.get(i), in.size(), reverseOrder);
+	}
+
+	private static int closest(double of, IntToDoubleFunction in, int size, boolean reverseOrder) {
+		int sizeMinusOne = size - 1;
 
-		if (of > in.get(sizeMinusOne))
+		if (of > in.applyAsDouble(sizeMinusOne))
 			return sizeMinusOne;
 
 		int start = reverseOrder ? sizeMinusOne - 1 : 0;
@@ -207,7 +242,7 @@ public class IndexRange {
 
 		for (int i = start; reverseOrder ? (i > -1) : (i < sizeMinusOne); i += increment) {
 
-			if (between(of, in.get(i), in.get(i + 1)))
+			if (between(of, in.applyAsDouble(i), in.applyAsDouble(i + 1)))
 				return i;
 
 		}
@@ -8,6 +8,7 @@ import java.io.FileOutputStream;
 import java.io.PrintStream;
 
 import pulse.AbstractData;
+import pulse.HeatingCurve;
 
 /**
  * A singleton exporter allows writing the data contained in a heating curve in
@@ -15,6 +16,9 @@ import pulse.AbstractData;
  * extension. The first column always represents the time sequence, which may be
  * shifted if the associated property of the heating curve is non-zero. The
  * second column represents the baseline-adjusted signal.
+ * <p>
+ * The values are read directly from the arrays backing the data.
+ * </p>
  *
  */
 
@@ -66,8 +70,9 @@ public class CurveExporter implements Exporter<AbstractData> {
 
 			stream.print("</tr></thead>");
 
-			double t;
-			double T;
+			final double[] time = hc.timeData();
+			final double[] signal = signalData(hc);
+			final double shift = timeShift(hc);
 
 			final int size = hc.actualNumPoints();
 
@@ -75,11 +80,9 @@ public class CurveExporter implements Exporter<AbstractData> {
 				stream.print("<tr>");
 
 				stream.print("<td>");
-				t = hc.timeAt(i);
-				stream.printf("%.6f %n", t);
+				stream.printf("%.6f %n", time[i] + shift);
 				stream.print("\t</td><td>");
-				T = hc.signalAt(i);
-				stream.printf("%.6f %n</td>", T);
+				stream.printf("%.6f %n</td>", signal[i]);
 
 				stream.println("</tr>");
 			}
@@ -95,21 +98,33 @@ public class CurveExporter implements Exporter<AbstractData> {
 			final String TEMPERATURE_LABEL = hc.getPrefix();
 			stream.print(TIME_LABEL + "\t" + TEMPERATURE_LABEL + "\t");
 
-			double t;
-			double T;
+			final double[] time = hc.timeData();
+			final double[] signal = signalData(hc);
+			final double shift = timeShift(hc);
 
 			final int size = hc.actualNumPoints();
 			
 			for (int i = 0; i < size; i++) {
-				t = hc.timeAt(i);
-				stream.printf("%n%3.4f", t);
-				T = hc.signalAt(i);
-				stream.printf("\t%3.4f", T);
+				stream.printf("%n%3.4f", time[i] + shift);
+				stream.printf("\t%3.4f", signal[i]);
 			}
 		}
 
 	}
 
+	/*
+	 * A HeatingCurve is exported with its time shift and baseline-adjusted signal,
+	 * consistent with its timeAt and signalAt methods.
+	 */
+
+	private static double[] signalData(AbstractData data) {
+		return data instanceof HeatingCurve ? ((HeatingCurve) data).adjustedSignalData() : data.signalData();
+	}
+
+	private static double timeShift(AbstractData data) {
+		return data instanceof HeatingCurve ? (double) ((HeatingCurve) data).getTimeShift().getValue() : 0.0;
+	}
+
 	/**
 	 * Returns the single instance of this subclass.
 	 * 
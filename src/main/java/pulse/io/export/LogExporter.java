@@ -2,6 +2,8 @@ package pulse.io.export;
 
 import static pulse.io.export.Extension.HTML;
 
+import java.io.BufferedOutputStream;
+import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
@@ -33,22 +35,43 @@ public class LogExporter implements Exporter<Log> {
 		return instance;
 	}
 
+	/**
+	 * Exports {@code log} on the background thread which dispatches the entries of
+	 * all logs, so that the caller is not held up by the export. The file is
+	 * written after all entries added before this call have been dispatched.
+	 * 
+	 * @throws IllegalArgumentException if {@code directory} is not really a
+	 *                                  directory
+	 * @see Log.dispatch(Runnable)
+	 */
+
+	@Override
+	public void export(Log log, File directory, Extension extension) {
+		if (!directory.isDirectory())
+			throw new IllegalArgumentException("Not a directory: " + directory);
+
+		Log.dispatch(() -> Exporter.super.export(log, directory, extension));
+	}
+
 	/**
 	 * Prints all the data contained in this {@code Log} using {@code fos}. By
 	 * default, this will output all data in an {@code html} format. Note this
-	 * implementation ignores the {@code extension} parameter. After execution, the
-	 * stream is explicitly closed.
+	 * implementation ignores the {@code extension} parameter. The lines are
+	 * written one by one from a snapshot of the log, which is not blocked by the
+	 * export. After execution, the stream is explicitly closed.
 	 * 
 	 * @param log a log to be exported
 	 * @param fos an output stream
 	 * @param extension the desired extension
-	 * @see pulse.tasks.Log.toString()
+	 * @see pulse.tasks.Log.lines()
 	 */
 
 	@Override
 	public void printToStream(Log log, FileOutputStream fos, Extension extension) {
-		var stream = new PrintStream(fos);
-		stream.print(log.toString());
+		var stream = new PrintStream(new BufferedOutputStream(fos));
+		log.lines().forEach(stream::println);
+		stream.flush();
+
 		try {
 			fos.close();
 		} catch (IOException e) {
@@ -0,0 +1,220 @@
+package pulse.math;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.analysis.UnivariateFunction;
+import org.apache.commons.math3.exception.OutOfRangeException;
+
+/**
+ * A natural cubic spline, which can be re-calculated in place.
+ * <p>
+ * This produces the same interpolation as the {@code SplineInterpolator} of
+ * the Apache Commons Math library, but stores the polynomial coefficients in
+ * arrays, which are retained between successive calls to {@code update}. The
+ * knots and the factorisation of the tridiagonal system, which only depends on
+ * the knots, are kept in an immutable object. If the knots have not changed
+ * since the previous update, the factorisation is re-used and only the
+ * coefficients depending on the function values are re-calculated.
+ * </p>
+ * <p>
+ * A spline updated in place must not be read concurrently. A spline shared
+ * with other threads should therefore be double-buffered: the update is made
+ * to a second instance, which is then published in place of the first one.
+ * </p>
+ * <p>
+ * In addition to the spline value, this class provides a piecewise-linear
+ * interpolation on the same knots, which is cheaper to calculate when high
+ * accuracy is not required.
+ * </p>
+ *
+ */
+
+public class CubicSpline implements UnivariateFunction {
+
+	private Knots knots;
+	private int n; // the number of knots
+
+	private double[] y;
+
+	/*
+	 * coefficients of the polynomials
+	 */
+
+	private double[] b;
+	private double[] c;
+	private double[] d;
+
+	private double[] z;
+
+	/**
+	 * Creates an empty spline. The {@code update} method should be called before
+	 * the spline is evaluated.
+	 */
+
+	public CubicSpline() {
+		allocate(0);
+	}
+
+	/**
+	 * Creates a spline interpolating {@code y} at the knots {@code x}.
+	 *
+	 * @param x the knots
+	 * @param y the function values at the knots
+	 */
+
+	public CubicSpline(double[] x, double[] y) {
+		this();
+		update(x, y, x.length);
+	}
+
+	private void allocate(int capacity) {
+		y = new double[capacity];
+		b = new double[capacity];
+		c = new double[capacity];
+		d = new double[capacity];
+		z = new double[capacity];
+	}
+
+	/**
+	 * Re-calculates this spline for the first {@code size} elements of
+	 * {@code x} and {@code y}. No memory is allocated unless the knots have
+	 * changed, or their number exceeds those of any previous calculation.
+	 *
+	 * @param x    the knots, sorted in strictly ascending order
+	 * @param y    the function values at the knots
+	 * @param size the number of knots, at least three
+	 * @throws IllegalArgumentException if less than three knots are specified
+	 */
+
+	public void update(double[] x, double[] y, final int size) {
+		if (size < 3)
+			throw new IllegalArgumentException("At least 3 knots are required. Received: " + size);
+
+		if (knots == null || !knots.matches(x, size))
+			knots = new Knots(x, size);
+
+		if (size > this.y.length)
+			allocate(size);
+
+		n = size;
+		System.arraycopy(y, 0, this.y, 0, n);
+
+		solve();
+	}
+
+	private void solve() {
+		final int m = n - 1; // the number of intervals
+
+		final double[] x = knots.x;
+		final double[] h = knots.h;
+		final double[] mu = knots.mu;
+		final double[] g = knots.g;
+
+		z[0] = 0;
+
+		for (int i = 1; i < m; i++)
+			z[i] = (3.0 * (y[i + 1] * h[i - 1] - y[i] * (x[i + 1] - x[i - 1]) + y[i - 1] * h[i])
+					/ (h[i - 1] * h[i]) - h[i - 1] * z[i - 1]) / g[i];
+
+		c[m] = 0;
+
+		for (int j = m - 1; j >= 0; j--) {
+			c[j] = z[j] - mu[j] * c[j + 1];
+			b[j] = (y[j + 1] - y[j]) / h[j] - h[j] * (c[j + 1] + 2.0 * c[j]) / 3.0;
+			d[j] = (c[j + 1] - c[j]) / (3.0 * h[j]);
+		}
+
+	}
+
+	/**
+	 * Finds the interval containing {@code t} with a binary search.
+	 *
+	 * @param t the value of the independent variable
+	 * @return the index of the knot starting the interval
+	 * @throws OutOfRangeException if {@code t} lies outside the knots
+	 */
+
+	private int interval(double t) {
+		final double[] x = knots.x;
+
+		if (t < x[0] || t > x[n - 1])
+			throw new OutOfRangeException(t, x[0], x[n - 1]);
+
+		int i = Arrays.binarySearch(x, 0, n, t);
+
+		if (i < 0)
+			i = -i - 2;
+
+		return i < n - 1 ? i : n - 2;
+	}
+
+	/**
+	 * Calculates the spline value at {@code t}.
+	 *
+	 * @param t the value of the independent variable
+	 * @return the interpolated value
+	 * @throws OutOfRangeException if {@code t} lies outside the knots
+	 */
+
+	@Override
+	public double value(double t) {
+		final int i = interval(t);
+		final double dt = t - knots.x[i];
+		return y[i] + dt * (b[i] + dt * (c[i] + dt * d[i]));
+	}
+
+	/**
+	 * Calculates the piecewise-linear interpolation at {@code t} using the knots
+	 * of this spline.
+	 *
+	 * @param t the value of the independent variable
+	 * @return the linearly interpolated value
+	 * @throws OutOfRangeException if {@code t} lies outside the knots
+	 */
+
+	public double linearValue(double t) {
+		final int i = interval(t);
+		return y[i] + (y[i + 1] - y[i]) * (t - knots.x[i]) / knots.h[i];
+	}
+
+	/*
+	 * The knots and the factorisation of the tridiagonal system, which only
+	 * depends on the knots. Never modified after construction.
+	 */
+
+	private static class Knots {
+
+		private final int n;
+		private final double[] x;
+		private final double[] h;
+		private final double[] mu;
+		private final double[] g;
+
+		private Knots(double[] x, final int n) {
+			this.n = n;
+			this.x = Arrays.copyOf(x, n);
+			h = new double[n];
+			mu = new double[n];
+			g = new double[n];
+
+			final int m = n - 1; // the number of intervals
+
+			for (int i = 0; i < m; i++)
+				h[i] = x[i + 1] - x[i];
+
+			mu[0] = 0;
+			g[0] = 1.0;
+
+			for (int i = 1; i < m; i++) {
+				g[i] = 2.0 * (x[i + 1] - x[i - 1]) - h[i - 1] * mu[i - 1];
+				mu[i] = h[i] / g[i];
+			}
+		}
+
+		private boolean matches(double[] x, final int size) {
+			return size == n && Arrays.equals(this.x, 0, n, x, 0, n);
+		}
+
+	}
+
+}
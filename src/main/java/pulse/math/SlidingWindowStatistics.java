@@ -0,0 +1,212 @@
+package pulse.math;
+
+/**
+ * Maintains the sample means, variances and covariances of a multivariate
+ * series over a sliding window of fixed size.
+ * <p>
+ * The samples are stored in a ring buffer. The statistics are updated
+ * incrementally using Welford's algorithm: when the window is full, the oldest
+ * sample is removed from the accumulators before the new one is added. Each
+ * update therefore takes <math>O(<i>d</i><sup>2</sup>)</math> operations for a
+ * <i>d</i>-dimensional series, independent of the window size, and no memory
+ * is allocated after construction.
+ * </p>
+ *
+ */
+
+public class SlidingWindowStatistics {
+
+	private final int capacity;
+	private final int dimension;
+
+	private final double[][] samples;
+	private int head; // the position of the next sample
+	private int count;
+
+	private final double[] mean;
+	private final double[][] comoment; // sums of products of deviations from the mean
+
+	/**
+	 * Creates an empty window.
+	 *
+	 * @param capacity  the maximum number of retained samples
+	 * @param dimension the number of components in each sample
+	 */
+
+	public SlidingWindowStatistics(final int capacity, final int dimension) {
+		if (capacity < 1)
+			throw new IllegalArgumentException("Illegal capacity: " + capacity);
+
+		this.capacity = capacity;
+		this.dimension = dimension;
+		samples = new double[capacity][dimension];
+		mean = new double[dimension];
+		comoment = new double[dimension][dimension];
+	}
+
+	/**
+	 * Removes all samples from this window.
+	 */
+
+	public void clear() {
+		head = 0;
+		count = 0;
+		for (int i = 0; i < dimension; i++) {
+			mean[i] = 0;
+			for (int j = 0; j < dimension; j++)
+				comoment[i][j] = 0;
+		}
+	}
+
+	/**
+	 * Adds a new sample to this window. If the window is full, the oldest sample
+	 * is discarded.
+	 *
+	 * @param x the sample, containing at least {@code dimension} components
+	 */
+
+	public void add(final double[] x) {
+		final double[] slot = samples[head];
+
+		if (count == capacity) {
+			if (count == 1)
+				clear();
+			else
+				remove(slot);
+		}
+
+		System.arraycopy(x, 0, slot, 0, dimension);
+		head = (head + 1) % capacity;
+		count++;
+
+		final double n = count;
+
+		for (int i = 0; i < dimension; i++) {
+			final double delta = slot[i] - mean[i];
+			mean[i] += delta / n;
+
+			for (int j = 0; j <= i; j++)
+				comoment[i][j] += delta * (slot[j] - mean[j]);
+		}
+
+	}
+
+	/*
+	 * Reverses the Welford update for a sample leaving the window.
+	 */
+
+	private void remove(final double[] x) {
+		count--;
+		final double n = count;
+
+		for (int i = 0; i < dimension; i++) {
+			final double delta = x[i] - mean[i];
+			mean[i] -= delta / n;
+
+			for (int j = 0; j <= i; j++)
+				comoment[i][j] -= delta * (x[j] - mean[j]);
+		}
+
+	}
+
+	/**
+	 * The mean value of component {@code i}.
+	 *
+	 * @param i the component index
+	 * @return the mean over the samples in this window
+	 */
+
+	public double mean(final int i) {
+		return mean[i];
+	}
+
+	/**
+	 * The population variance of component {@code i}.
+	 *
+	 * @param i the component index
+	 * @return the variance over the samples in this window, or zero if the window
+	 *         is empty
+	 */
+
+	public double variance(final int i) {
+		return count > 0 ? Math.max(comoment[i][i], 0.0) / count : 0.0;
+	}
+
+	/**
+	 * The population covariance of components {@code i} and {@code j}.
+	 *
+	 * @param i the first component index
+	 * @param j the second component index
+	 * @return the covariance over the samples in this window, or zero if the
+	 *         window is empty
+	 */
+
+	public double covariance(final int i, final int j) {
+		if (count == 0)
+			return 0.0;
+		return (i < j ? comoment[j][i] : comoment[i][j]) / count;
+	}
+
+	/**
+	 * The Pearson correlation coefficient of components {@code i} and {@code j}.
+	 *
+	 * @param i the first component index
+	 * @param j the second component index
+	 * @return the correlation coefficient, or {@code NaN} if any of the
+	 *         components has zero variance
+	 */
+
+	public double correlation(final int i, final int j) {
+		final double c = i < j ? comoment[j][i] : comoment[i][j];
+		final double sxx = comoment[i][i];
+		final double syy = comoment[j][j];
+		return sxx > 0 && syy > 0 ? c / Math.sqrt(sxx * syy) : Double.NaN;
+	}
+
+	/**
+	 * Copies the values of component {@code i} into {@code out}, from the oldest
+	 * to the newest sample.
+	 *
+	 * @param i   the component index
+	 * @param out an array of length at least {@code size()}
+	 * @return {@code out}
+	 */
+
+	public double[] component(final int i, final double[] out) {
+		int k = count < capacity ? 0 : head;
+		for (int l = 0; l < count; l++) {
+			out[l] = samples[k][i];
+			k = (k + 1) % capacity;
+		}
+		return out;
+	}
+
+	/**
+	 * The number of samples currently held in this window.
+	 *
+	 * @return the number of samples
+	 */
+
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Checks whether this window is full.
+	 *
+	 * @return {@code true} if the number of samples equals the capacity
+	 */
+
+	public boolean isFull() {
+		return count == capacity;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public int getDimension() {
+		return dimension;
+	}
+
+}
@@ -0,0 +1,139 @@
+package pulse.math.linear;
+
+import static java.lang.Math.abs;
+
+/**
+ * An LU decomposition of a square matrix with partial pivoting.
+ * <p>
+ * Once the matrix has been decomposed, linear systems with any number of
+ * right-hand sides can be solved by forward and backward substitution, which
+ * is considerably cheaper than calculating an explicit inverse. The storage is
+ * allocated on construction and re-used by subsequent calls to
+ * {@code decompose}, so that no memory is allocated during the calculation.
+ * </p>
+ * <p>
+ * Note no check for singularity is performed: a singular matrix will produce
+ * non-finite solutions.
+ * </p>
+ *
+ */
+
+public class LUDecomposition {
+
+	private final int n;
+	private final double[] lu; // row-major storage of both factors
+	private final int[] pivot;
+
+	/**
+	 * Creates an empty decomposition for <math><i>n</i> &times; <i>n</i></math>
+	 * matrices.
+	 *
+	 * @param n the dimension of the matrix
+	 */
+
+	public LUDecomposition(int n) {
+		this.n = n;
+		lu = new double[n * n];
+		pivot = new int[n];
+	}
+
+	/**
+	 * Decomposes the upper-left <math><i>n</i> &times; <i>n</i></math> block of
+	 * {@code a}, which is left unchanged.
+	 *
+	 * @param a a matrix with at least <i>n</i> rows and columns
+	 */
+
+	public void decompose(double[][] a) {
+		for (int i = 0; i < n; i++) {
+			System.arraycopy(a[i], 0, lu, i * n, n);
+			pivot[i] = i;
+		}
+
+		for (int k = 0; k < n; k++) {
+
+			// find the pivot row
+
+			int p = k;
+			double max = abs(lu[k * n + k]);
+
+			for (int i = k + 1; i < n; i++) {
+				final double v = abs(lu[i * n + k]);
+				if (v > max) {
+					max = v;
+					p = i;
+				}
+			}
+
+			if (p != k) {
+				swapRows(p, k);
+				final int tmp = pivot[p];
+				pivot[p] = pivot[k];
+				pivot[k] = tmp;
+			}
+
+			// eliminate the elements below the diagonal
+
+			final int rowK = k * n;
+			final double diagonal = lu[rowK + k];
+
+			for (int i = k + 1; i < n; i++) {
+				final int rowI = i * n;
+				final double f = lu[rowI + k] /= diagonal;
+
+				for (int j = k + 1; j < n; j++)
+					lu[rowI + j] -= f * lu[rowK + j];
+			}
+
+		}
+
+	}
+
+	private void swapRows(int i1, int i2) {
+		final int r1 = i1 * n;
+		final int r2 = i2 * n;
+		for (int j = 0; j < n; j++) {
+			final double tmp = lu[r1 + j];
+			lu[r1 + j] = lu[r2 + j];
+			lu[r2 + j] = tmp;
+		}
+	}
+
+	/**
+	 * Solves the linear system <math><i>A</i><i>x</i> = <i>b</i></math>, where
+	 * <i>A</i> is the previously decomposed matrix. The result is written to
+	 * {@code x}, which must not be the same array as {@code b}.
+	 *
+	 * @param b the right-hand side
+	 * @param x the array where the solution is stored
+	 */
+
+	public void solve(double[] b, double[] x) {
+
+		// forward substitution with the unit lower-triangular factor
+
+		for (int i = 0; i < n; i++) {
+			final int row = i * n;
+			double sum = b[pivot[i]];
+			for (int j = 0; j < i; j++)
+				sum -= lu[row + j] * x[j];
+			x[i] = sum;
+		}
+
+		// backward substitution with the upper-triangular factor
+
+		for (int i = n - 1; i >= 0; i--) {
+			final int row = i * n;
+			double sum = x[i];
+			for (int j = i + 1; j < n; j++)
+				sum -= lu[row + j] * x[j];
+			x[i] = sum / lu[row + i];
+		}
+
+	}
+
+	public int dimension() {
+		return n;
+	}
+
+}
@@ -37,7 +37,7 @@ public class DiscretePulse2D extends DiscretePulse {
 	public DiscretePulse2D(ClassicalProblem2D problem, Grid2D grid) {
 		super(problem, grid);
 		var properties = (ExtendedThermalProperties)problem.getProperties();
-		coordFactor = (double) properties.getSampleDiameter().getValue() / 2.0;
+		coordFactor = properties.sampleDiameter() / 2.0;
 		var pulse = (Pulse2D)problem.getPulse();
 		discretePulseSpot = grid.gridRadialDistance((double) pulse.getSpotDiameter().getValue() / 2.0, coordFactor);
 
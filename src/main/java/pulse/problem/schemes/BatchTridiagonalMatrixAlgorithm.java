@@ -0,0 +1,157 @@
+package pulse.problem.schemes;
+
+/**
+ * Implements the tridiagonal matrix algorithm (Thomas algorithm) for a batch of
+ * systems sharing the same matrix, but having different right-hand sides.
+ * <p>
+ * The equations have the form
+ * {@code a[k]*u[k-1] - b[k]*u[k] + c[k]*u[k+1] = f[k]}, where {@code k} runs
+ * from {@code 0} to {@code n} and {@code a[0] = c[n] = 0}. The right-hand sides
+ * and the solutions are stored in a structure-of-arrays layout, i.e. the first
+ * index denotes the node and the second index denotes the system. The inner
+ * loops thus run over contiguous memory without calls to overridable methods,
+ * which allows them to be vectorised by the JIT compiler. Since the matrix is
+ * shared, the {@code alpha} coefficients are calculated only once.
+ * </p>
+ * <p>
+ * Disjoint ranges of systems may be solved concurrently.
+ * </p>
+ *
+ * @see TridiagonalMatrixAlgorithm
+ */
+
+public class BatchTridiagonalMatrixAlgorithm {
+
+	private final int n;
+	private final int size;
+
+	private final double[] a;
+	private final double[] b;
+	private final double[] c;
+
+	private final double[] alpha;
+	private final double[] den;
+	private final double[][] beta;
+
+	/**
+	 * Creates a batch of {@code size} systems, each having {@code n + 1}
+	 * equations.
+	 *
+	 * @param n    the index of the last node
+	 * @param size the number of systems
+	 */
+
+	public BatchTridiagonalMatrixAlgorithm(int n, int size) {
+		this.n = n;
+		this.size = size;
+		a = new double[n + 1];
+		b = new double[n + 1];
+		c = new double[n + 1];
+		alpha = new double[n + 2];
+		den = new double[n + 1];
+		beta = new double[n + 1][size];
+	}
+
+	/**
+	 * Sets the matrix coefficients for node {@code k}.
+	 *
+	 * @param k the node index
+	 * @param a the coefficient at {@code u[k-1]}
+	 * @param b the (negated) diagonal coefficient
+	 * @param c the coefficient at {@code u[k+1]}
+	 */
+
+	public void setCoefficients(final int k, final double a, final double b, final double c) {
+		this.a[k] = a;
+		this.b[k] = b;
+		this.c[k] = c;
+	}
+
+	/**
+	 * Calculates the {@code alpha} coefficients, which are shared by all systems.
+	 * Should be called after all coefficients have been set.
+	 */
+
+	public void evaluateAlpha() {
+		for (int k = 0; k <= n; k++) {
+			den[k] = 1.0 / (b[k] - a[k] * alpha[k]);
+			alpha[k + 1] = c[k] * den[k];
+		}
+	}
+
+	/**
+	 * Solves the systems from {@code from} (inclusive) to {@code to} (exclusive).
+	 * The solution of system {@code s} at node {@code k} is written to
+	 * {@code u[k + shift][s + shift]}, which allows writing directly to arrays
+	 * padded with edge values.
+	 *
+	 * @param f     the right-hand sides, where {@code f[k][s]} relates to node
+	 *              {@code k} of system {@code s}
+	 * @param u     the output array
+	 * @param shift the offset of the solution in {@code u}
+	 * @param from  the first system
+	 * @param to    the system after the last one
+	 */
+
+	public void solve(final double[][] f, final double[][] u, final int shift, final int from, final int to) {
+
+		// forward sweep
+
+		double[] previous = beta[0];
+		double[] fk = f[0];
+
+		for (int s = from; s < to; s++)
+			previous[s] = -fk[s] * den[0];
+
+		for (int k = 1; k <= n; k++) {
+			final double[] current = beta[k];
+			final double ak = a[k];
+			final double dk = den[k];
+			fk = f[k];
+
+			for (int s = from; s < to; s++)
+				current[s] = (ak * previous[s] - fk[s]) * dk;
+
+			previous = current;
+		}
+
+		// backward sweep
+
+		double[] next = u[n + shift];
+
+		for (int s = from; s < to; s++)
+			next[s + shift] = previous[s];
+
+		for (int k = n - 1; k >= 0; k--) {
+			final double[] current = u[k + shift];
+			final double[] bk = beta[k];
+			final double ak = alpha[k + 1];
+
+			for (int s = from; s < to; s++)
+				current[s + shift] = ak * next[s + shift] + bk[s];
+
+			next = current;
+		}
+	}
+
+	/**
+	 * The index of the last node.
+	 *
+	 * @return the index of the last equation in each system
+	 */
+
+	public int getLastIndex() {
+		return n;
+	}
+
+	/**
+	 * The number of systems in this batch.
+	 *
+	 * @return the batch size
+	 */
+
+	public int size() {
+		return size;
+	}
+
+}
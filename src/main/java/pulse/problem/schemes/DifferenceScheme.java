@@ -114,7 +114,7 @@ public abstract class DifferenceScheme extends PropertyHolder implements Reflexi
 	public void runTimeSequence(Problem problem) {
 		runTimeSequence(problem, 0, timeLimit);
 		var curve = problem.getHeatingCurve();
-		final double maxTemp = (double) problem.getProperties().getMaximumTemperature().getValue();
+		final double maxTemp = problem.getProperties().maximumTemperature();
 		curve.scale(maxTemp / curve.apparentMaximum() );
 	}
 
@@ -307,4 +307,4 @@ public abstract class DifferenceScheme extends PropertyHolder implements Reflexi
 			setTimeLimit(property);
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -2,6 +2,8 @@ package pulse.problem.schemes.rte;
 
 import static pulse.math.MathUtils.fastPowLoop;
 
+import java.util.Objects;
+
 import org.apache.commons.math3.analysis.UnivariateFunction;
 
 import pulse.problem.statements.NonlinearProblem;
@@ -11,7 +13,9 @@ import pulse.problem.statements.Pulse2D;
  * Contains methods for calculating the integral spectral characteristics of a
  * black body with a specific spatial temperature profile. The latter is managed
  * using a {@code UnivariateFunction} previously generated with a
- * {@code SplineInterpolator}.
+ * {@code SplineInterpolator}. At the nodes of the heat problem grid, the
+ * emissive power may be calculated directly from the nodal temperatures,
+ * bypassing the interpolation.
  *
  */
 
@@ -19,6 +23,7 @@ public class BlackbodySpectrum {
 
 	private double reductionFactor;
 	private UnivariateFunction interpolation;
+	private double[] nodalTemperatures;
 
 	/**
 	 * Creates a {@code BlackbodySpectrum}. Calculates the reduction factor
@@ -30,7 +35,7 @@ public class BlackbodySpectrum {
 	
 	public BlackbodySpectrum(NonlinearProblem p) {
 		final double maxHeating = p.getProperties().maximumHeating((Pulse2D)p.getPulse());
-		reductionFactor = maxHeating / ((double) p.getProperties().getTestTemperature().getValue());
+		reductionFactor = maxHeating / p.getProperties().testTemperature();
 	}
 
 	/**
@@ -60,14 +65,58 @@ public class BlackbodySpectrum {
 	}
 
 	/**
-	 * Sets a new function for the spatial temperature profile. The function is
-	 * generally constructed using a {@code SplineInterpolator}
+	 * Calculates the emissive power at the node {@code i} of the heat problem
+	 * grid using the nodal temperature. Requires the temperature profile to be
+	 * set with {@code setTemperatureProfile}.
+	 * 
+	 * @param i the grid index
+	 * @return the local emissive power value
+	 * @see #powerAt(double)
+	 */
+
+	public double powerAtNode(final int i) {
+		return emissivePower(nodalTemperatures[i]);
+	}
+
+	/**
+	 * Calculates the spectral radiance at the node {@code i} of the heat problem
+	 * grid using the nodal temperature. Requires the temperature profile to be
+	 * set with {@code setTemperatureProfile}.
+	 * 
+	 * @param i the grid index
+	 * @return the spectral radiance at node {@code i}
+	 * @see #radianceAt(double)
+	 */
+
+	public double radianceAtNode(final int i) {
+		return radiance(nodalTemperatures[i]);
+	}
+
+	/**
+	 * The index of the last node of the heat problem grid.
+	 * 
+	 * @return the index of the last nodal temperature
+	 */
+
+	public int lastNode() {
+		return nodalTemperatures.length - 1;
+	}
+
+	/**
+	 * Sets the spatial temperature profile, both as an interpolating function
+	 * and as the temperature values at the grid nodes. The array is not copied
+	 * and should not be modified while the spectrum is in use. Both arguments are
+	 * always set together, so that the nodal values cannot become inconsistent
+	 * with the interpolation.
 	 * 
-	 * @param interpolation
+	 * @param interpolation     the interpolation of {@code nodalTemperatures}
+	 * @param nodalTemperatures the reduced temperatures at the grid nodes
+	 * @throws NullPointerException if either argument is {@code null}
 	 */
 
-	public void setInterpolation(UnivariateFunction interpolation) {
-		this.interpolation = interpolation;
+	public void setTemperatureProfile(UnivariateFunction interpolation, double[] nodalTemperatures) {
+		this.interpolation = Objects.requireNonNull(interpolation);
+		this.nodalTemperatures = Objects.requireNonNull(nodalTemperatures);
 	}
 
 	public UnivariateFunction getInterpolation() {
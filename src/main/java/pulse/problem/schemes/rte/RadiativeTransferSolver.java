@@ -1,14 +1,11 @@
 package pulse.problem.schemes.rte;
 
-import static pulse.math.MathUtils.linearExtrapolation;
-
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.IntStream;
 
 import org.apache.commons.math3.analysis.UnivariateFunction;
-import org.apache.commons.math3.analysis.interpolation.SplineInterpolator;
 
+import pulse.math.CubicSpline;
 import pulse.problem.schemes.Grid;
 import pulse.problem.statements.ParticipatingMedium;
 import pulse.problem.statements.ThermoOpticalProperties;
@@ -19,7 +16,9 @@ import pulse.util.Reflexive;
 /**
  * Manages processes to solve the radiative transfer equation and generate the
  * input needed by the heat problem, i.e. fluxes and their derivatives. Uses a
- * {@code SplineInterpolator} to generate a smooth spatial temperature profile.
+ * {@code CubicSpline} to generate a smooth spatial temperature profile. The
+ * spline and its knots are retained between successive calculations, so that
+ * only the coefficients depending on the temperature values are re-calculated.
  * Provides means of probing the calculation health and tracking calculation
  * steps with listeners.
  *
@@ -30,6 +29,10 @@ public abstract class RadiativeTransferSolver extends PropertyHolder implements
 	private Fluxes fluxes;
 	private List<RTECalculationListener> rteListeners;
 
+	private final CubicSpline profile;
+	private double[] knots;
+	private double[] values;
+
 	/**
 	 * Dummy constructor.
 	 * 
@@ -37,6 +40,9 @@ public abstract class RadiativeTransferSolver extends PropertyHolder implements
 
 	public RadiativeTransferSolver() {
 		rteListeners = new ArrayList<>();
+		profile = new CubicSpline();
+		knots = new double[0];
+		values = new double[0];
 	}
 
 	/**
@@ -66,28 +72,39 @@ public abstract class RadiativeTransferSolver extends PropertyHolder implements
 
 	/**
 	 * Performs interpolation with natural cubic splines using the input arguments.
+	 * The temperature profile is linearly extrapolated by one grid step beyond
+	 * each boundary.
+	 * <p>
+	 * Note that the same {@code UnivariateFunction} is returned on each call,
+	 * i.e. the previous interpolation is overwritten. No memory is allocated
+	 * unless the grid density has changed.
+	 * </p>
 	 * 
 	 * @param tempArray an array of data defined on a previously initialised grid.
-	 * @return a {@code UnivariateFunction} generated with a
-	 *         {@code SplineInterpolator}
+	 * @return a {@code UnivariateFunction} backed by a re-usable
+	 *         {@code CubicSpline}
 	 */
 
 	public UnivariateFunction interpolateTemperatureProfile(final double[] tempArray) {
-		var xArray = new double[tempArray.length + 2];
-		IntStream.range(0, xArray.length).forEach(i -> xArray[i] = opticalCoordinateAt(i - 1));
-				
-		var tarray = new double[tempArray.length + 2];
-		System.arraycopy(tempArray, 0, tarray, 1, tempArray.length - 1);
-		
-		final double[] p1 = new double[] { xArray[1], tempArray[0] };
-		final double[] p2 = new double[] { xArray[2], tempArray[1] };
-		tarray[0] =	linearExtrapolation(p1, p2, xArray[0]); 
-		
-		final double[] p3 = new double[] { xArray[xArray.length - 2], tempArray[tempArray.length - 1] };
-		final double[] p4 = new double[] { xArray[xArray.length - 3], tempArray[tempArray.length - 2] };
-		tarray[tarray.length - 1] = linearExtrapolation(p3, p4, xArray[xArray.length - 1]);
-		
-		return (new SplineInterpolator()).interpolate(xArray, tarray);
+		final int n = tempArray.length;
+		final int size = n + 2;
+
+		if (knots.length != size) {
+			knots = new double[size];
+			values = new double[size];
+		}
+
+		for (int i = 0; i < size; i++)
+			knots[i] = opticalCoordinateAt(i - 1);
+
+		System.arraycopy(tempArray, 0, values, 1, n);
+
+		// the grid is uniform, hence linear extrapolation is reduced to this
+		values[0] = 2.0 * tempArray[0] - tempArray[1];
+		values[size - 1] = 2.0 * tempArray[n - 1] - tempArray[n - 2];
+
+		profile.update(knots, values, size);
+		return profile;
 	}
 
 	/**
@@ -78,7 +78,7 @@ public abstract class AdaptiveIntegrator extends ODEIntegrator {
 			 */
 
 			intensities.intensitiesLeftBoundary(getEmissionFunction()); // initial value for tau = 0
-			i0Max = (new Vector(quantities.getIntensities()[0])).maxAbsComponent();
+			i0Max = maxAbs(quantities.getIntensities()[0]);
 
 			firstRun = true;
 
@@ -87,7 +87,7 @@ public abstract class AdaptiveIntegrator extends ODEIntegrator {
 				v = step(j, 1.0);
 				System.arraycopy(v[0].getData(), 0, quantities.getIntensities()[j + 1], nPositiveStart, halfLength);
 
-				i1Max = (new Vector(quantities.getIntensities()[j + 1])).maxAbsComponent();
+				i1Max = maxAbs(quantities.getIntensities()[j + 1]);
 				relFactor = Math.max(i0Max, i1Max);
 				i0Max = i1Max;
 
@@ -100,7 +100,7 @@ public abstract class AdaptiveIntegrator extends ODEIntegrator {
 			 */
 
 			intensities.intensitiesRightBoundary(getEmissionFunction()); // initial value for tau = tau_0
-			i0Max = (new Vector(quantities.getIntensities()[N])).maxAbsComponent();
+			i0Max = maxAbs(quantities.getIntensities()[N]);
 
 			firstRun = true;
 
@@ -109,7 +109,7 @@ public abstract class AdaptiveIntegrator extends ODEIntegrator {
 				v = step(j, -1.0);
 				System.arraycopy(v[0].getData(), 0, quantities.getIntensities()[j - 1], nNegativeStart, halfLength);
 
-				i1Max = (new Vector(quantities.getIntensities()[j - 1])).maxAbsComponent();
+				i1Max = maxAbs(quantities.getIntensities()[j - 1]);
 				relFactor = Math.max(i0Max, i1Max);
 				i0Max = i1Max;
 
@@ -133,6 +133,13 @@ public abstract class AdaptiveIntegrator extends ODEIntegrator {
 
 	}
 
+	private static double maxAbs(double[] x) {
+		double max = 0;
+		for (double a : x)
+			max = Math.max(max, Math.abs(a));
+		return max;
+	}
+
 	private RTECalculationStatus sanityCheck() {
 		if (!isValueSensible(def(DOM_GRID_DENSITY),
 				getDiscretisation().getGrid().getDensity()))
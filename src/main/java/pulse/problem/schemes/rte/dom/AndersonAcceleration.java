@@ -0,0 +1,170 @@
+package pulse.problem.schemes.rte.dom;
+
+import static java.lang.Math.abs;
+
+import pulse.math.linear.LUDecomposition;
+import pulse.problem.schemes.rte.RTECalculationStatus;
+
+/**
+ * An iterative solver, which uses Anderson mixing to accelerate the
+ * convergence of the fixed-point iterations.
+ * <p>
+ * At each iteration, the new intensities are obtained as a linear combination
+ * of the last few iterates, with the coefficients minimising the norm of the
+ * combined residual. This is particularly effective for optically thick,
+ * highly scattering media, where the simple iterations converge slowly. The
+ * history of residuals is stored in the {@code DiscreteQuantities}. If the
+ * residual norm keeps growing, the acceleration is considered stalled and the
+ * solver falls back to successive overrelaxation for the remaining
+ * iterations.
+ * </p>
+ *
+ */
+
+public class AndersonAcceleration extends SuccessiveOverrelaxation {
+
+	private final static int DEPTH = 5;
+	private final static int STALL_LIMIT = 3;
+	private final static double REGULARISATION = 1e-12;
+
+	private final LUDecomposition[] lu;
+	private final double[][] matrix;
+	private final double[] rhs;
+	private final double[] gamma;
+
+	public AndersonAcceleration() {
+		super();
+		lu = new LUDecomposition[DEPTH];
+		for (int i = 0; i < DEPTH; i++)
+			lu[i] = new LUDecomposition(i + 1);
+		matrix = new double[DEPTH][DEPTH];
+		rhs = new double[DEPTH];
+		gamma = new double[DEPTH];
+	}
+
+	/*
+	 * Replaces the intensities and derivatives with the Anderson mixture of the
+	 * previous iterates.
+	 */
+
+	private void mix(DiscreteQuantities quantities) {
+		final int m = quantities.historySize();
+		final double[][] dR = quantities.getResidualDifferences();
+		final double[] r = quantities.getResidual();
+
+		// normal equations for the least-squares problem min |r - dR * gamma|
+
+		double trace = 0;
+
+		for (int i = 0; i < m; i++) {
+			for (int j = 0; j <= i; j++) {
+				matrix[i][j] = dot(dR[i], dR[j]);
+				matrix[j][i] = matrix[i][j];
+			}
+			rhs[i] = dot(dR[i], r);
+			trace += matrix[i][i];
+		}
+
+		// the residuals have not changed: nothing to mix
+
+		if (!(trace > 0))
+			return;
+
+		for (int i = 0; i < m; i++)
+			matrix[i][i] += REGULARISATION * trace;
+
+		lu[m - 1].decompose(matrix);
+		lu[m - 1].solve(rhs, gamma);
+
+		final double[][] dI = quantities.getIntensityDifferences();
+		final double[][] dF = quantities.getDerivativeDifferences();
+		final double[][] I = quantities.getIntensities();
+		final double[][] f = quantities.getDerivatives();
+		final int total = I[0].length;
+
+		for (int i = 0, k = 0; i < I.length; i++) {
+			for (int j = 0; j < total; j++, k++) {
+				double intensity = I[i][j];
+				double derivative = f[i][j];
+
+				for (int l = 0; l < m; l++) {
+					intensity -= gamma[l] * dI[l][k];
+					derivative -= gamma[l] * dF[l][k];
+				}
+
+				I[i][j] = intensity;
+				f[i][j] = derivative;
+			}
+		}
+
+	}
+
+	private static double dot(double[] a, double[] b) {
+		double sum = 0;
+		for (int i = 0; i < a.length; i++)
+			sum += a[i] * b[i];
+		return sum;
+	}
+
+	@Override
+	public RTECalculationStatus doIterations(AdaptiveIntegrator integrator) {
+
+		var discrete = integrator.getDiscretisation();
+		var quantities = discrete.getQuantities();
+		double relativeError = 100;
+
+		double qld = 0;
+		double qrd = 0;
+		double qsum;
+
+		int iterations = 0;
+		final var ef = integrator.getEmissionFunction();
+		RTECalculationStatus status = RTECalculationStatus.NORMAL;
+
+		quantities.initHistory(DEPTH);
+		boolean stalled = false;
+		int growth = 0;
+		double norm = Double.POSITIVE_INFINITY;
+
+		for (double ql = 1e8, qr = ql; relativeError > getIterationError(); status = sanityCheck(status,
+				++iterations)) {
+			quantities.store();
+			ql = qld;
+			qr = qrd;
+
+			status = integrator.integrate();
+
+			// if the integrator attempted rescaling, last iteration is not valid anymore
+			if (integrator.wasRescaled()) {
+				relativeError = Double.POSITIVE_INFINITY;
+				quantities.initHistory(DEPTH);
+			} else {
+
+				// get the difference in boundary heat fluxes
+				qld = discrete.fluxLeft(ef);
+				qrd = discrete.fluxRight(ef);
+				qsum = abs(qld - ql) + abs(qrd - qr);
+
+				if (!stalled) {
+					final double newNorm = quantities.updateHistory();
+					growth = newNorm < norm ? 0 : growth + 1;
+					norm = newNorm;
+					stalled = growth >= STALL_LIMIT;
+				}
+
+				if (stalled || quantities.historySize() == 0)
+					successiveOverrelaxation(integrator);
+				else
+					mix(quantities);
+
+				relativeError = qsum / (abs(qld) + abs(qrd));
+
+			}
+
+		}
+
+		return status;
+
+	}
+
+}
@@ -71,7 +71,7 @@ public class DiscreteOrdinatesMethod extends RadiativeTransferSolver {
 
 	@Override
 	public RTECalculationStatus compute(double[] tempArray) {
-		integrator.getEmissionFunction().setInterpolation(interpolateTemperatureProfile(tempArray));
+		integrator.getEmissionFunction().setTemperatureProfile(interpolateTemperatureProfile(tempArray), tempArray);
 
 		var status = iterativeSolver.doIterations(integrator);
 
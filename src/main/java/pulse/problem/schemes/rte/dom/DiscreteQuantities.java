@@ -3,6 +3,11 @@ package pulse.problem.schemes.rte.dom;
 /**
  * Defines the main quantities calculated within the discrete ordinates method. This
  * includes the various intensity and flux arrays used internally by the integrators.
+ * <p>
+ * Optionally, a short history of the differences between successive iterations
+ * is kept, which is used by accelerated iterative solvers. The history is
+ * cleared whenever the quantities are re-initialised.
+ * </p>
  */
 
 class DiscreteQuantities {
@@ -12,6 +17,22 @@ class DiscreteQuantities {
 	private double[][] f;
 	private double[][] fk;
 	private double[] qLast;
+
+	/*
+	 * ring buffers with the differences of successive residuals, intensities and
+	 * derivatives, flattened as i * ordinates + j
+	 */
+
+	private double[][] dR;
+	private double[][] dI;
+	private double[][] dF;
+	private double[] r;
+	private double[] rPrevious;
+	private double[] iPrevious;
+	private double[] fPrevious;
+	private int historySize;
+	private int historyNext;
+	private boolean hasPrevious;
 	
 	/**
 	 * Constructs a set of quantities based on the specified 
@@ -30,14 +51,18 @@ class DiscreteQuantities {
 		Ik = new double[gridDensity + 1][ordinates];
 		fk = new double[gridDensity + 1][ordinates];
 		qLast = new double[ordinates];
+		if (dR != null)
+			initHistory(dR.length);
 	}
 	
 	public void store() {
 		final int n = I.length;
 		final int m = I[0].length;
 		
-		Ik = new double[n][m];
-		fk = new double[n][m];
+		if (Ik.length != n || Ik[0].length != m) {
+			Ik = new double[n][m];
+			fk = new double[n][m];
+		}
 
 		/*
 		 * store k-th components
@@ -92,5 +117,100 @@ class DiscreteQuantities {
 	public void setIntensity(int i, int j, double value) {
 		I[i][j] = value;
 	}
+
+	/**
+	 * Allocates the history buffers, which will store at most {@code depth}
+	 * previous differences, and clears the history.
+	 * 
+	 * @param depth the maximum history size
+	 */
+
+	public void initHistory(int depth) {
+		final int size = I.length * I[0].length;
+
+		if (dR == null || dR.length != depth || r.length != size) {
+			dR = new double[depth][size];
+			dI = new double[depth][size];
+			dF = new double[depth][size];
+			r = new double[size];
+			rPrevious = new double[size];
+			iPrevious = new double[size];
+			fPrevious = new double[size];
+		}
+
+		clearHistory();
+	}
+
+	public void clearHistory() {
+		historySize = 0;
+		historyNext = 0;
+		hasPrevious = false;
+	}
+
+	/**
+	 * Calculates the residual between the current and the stored intensities and
+	 * adds the differences with the previous call to the history, replacing the
+	 * oldest entry if the history is full.
+	 * 
+	 * @return the squared norm of the residual
+	 */
+
+	public double updateHistory() {
+		final int m = I[0].length;
+		final double[] dr = dR[historyNext];
+		final double[] di = dI[historyNext];
+		final double[] df = dF[historyNext];
+
+		double norm = 0;
+
+		for (int i = 0, k = 0; i < I.length; i++) {
+			for (int j = 0; j < m; j++, k++) {
+				r[k] = I[i][j] - Ik[i][j];
+				norm += r[k] * r[k];
+
+				dr[k] = r[k] - rPrevious[k];
+				di[k] = I[i][j] - iPrevious[k];
+				df[k] = f[i][j] - fPrevious[k];
+
+				rPrevious[k] = r[k];
+				iPrevious[k] = I[i][j];
+				fPrevious[k] = f[i][j];
+			}
+		}
+
+		if (hasPrevious) {
+			historyNext = (historyNext + 1) % dR.length;
+			historySize = Math.min(historySize + 1, dR.length);
+		}
+
+		hasPrevious = true;
+		return norm;
+	}
+
+	/**
+	 * The number of valid entries in the history.
+	 * 
+	 * @return the history size
+	 */
+
+	public int historySize() {
+		return historySize;
+	}
+
+	public double[] getResidual() {
+		return r;
+	}
+
+	public double[][] getResidualDifferences() {
+		return dR;
+	}
+
+	public double[][] getIntensityDifferences() {
+		return dI;
+	}
+
+	public double[][] getDerivativeDifferences() {
+		return dF;
+	}
 	
 }
\ No newline at end of file
@@ -54,7 +54,7 @@ public class Discretisation extends PropertyHolder {
 		});
 		
 		var properties = (ThermoOpticalProperties) problem.getProperties();
-		setGrid(new StretchedGrid((double) properties.getOpticalThickness().getValue()));
+		setGrid(new StretchedGrid(properties.opticalThickness()));
 		quantities = new DiscreteQuantities(grid.getDensity(), ordinates.getTotalNodes());
 		setEmissivity((double) problem.getProperties().getEmissivity().getValue());
 	}
@@ -176,7 +176,7 @@ public class Discretisation extends PropertyHolder {
 
 	public double fluxLeft(final BlackbodySpectrum emissionFunction) {
 		final int nHalf = ordinates.getFirstNegativeNode();
-		return emissivity * PI * (emissionFunction.radianceAt(0.0) + 2.0 * flux(0, nHalf, ordinates.getTotalNodes()));
+		return emissivity * PI * (emissionFunction.radianceAtNode(0) + 2.0 * flux(0, nHalf, ordinates.getTotalNodes()));
 	}
 
 	/**
@@ -190,7 +190,7 @@ public class Discretisation extends PropertyHolder {
 		final int nHalf = ordinates.getFirstNegativeNode();
 		final int nStart = ordinates.getFirstPositiveNode();
 		return -emissivity * PI
-				* (emissionFunction.radianceAt(grid.getDimension()) - 2.0 * flux(grid.getDensity(), nStart, nHalf));
+				* (emissionFunction.radianceAtNode(emissionFunction.lastNode()) - 2.0 * flux(grid.getDensity(), nStart, nHalf));
 	}
 
 	/**
@@ -203,10 +203,11 @@ public class Discretisation extends PropertyHolder {
 	public void intensitiesLeftBoundary(final BlackbodySpectrum ef) {
 		final int nHalf = ordinates.getFirstNegativeNode();
 		final int nStart = ordinates.getFirstPositiveNode();
+		final double intensity = ef.radianceAtNode(0) - boundaryFluxFactor * fluxLeft(ef);
 
 		for (int i = nStart; i < nHalf; i++) {
 			// for positive streams
-			quantities.setIntensity(0, i, ef.radianceAt(0.0) - boundaryFluxFactor * fluxLeft(ef));
+			quantities.setIntensity(0, i, intensity);
 		}
 
 	}
@@ -222,11 +223,11 @@ public class Discretisation extends PropertyHolder {
 
 		final int N = grid.getDensity();
 		final int nHalf = ordinates.getFirstNegativeNode();
-		final double tau0 = grid.getDimension();
+		final double intensity = ef.radianceAtNode(ef.lastNode()) + boundaryFluxFactor * fluxRight(ef);
 
 		for (int i = nHalf; i < ordinates.getTotalNodes(); i++) {
 			// for negative streams
-			quantities.setIntensity(N, i, ef.radianceAt(tau0) + boundaryFluxFactor * fluxRight(ef));
+			quantities.setIntensity(N, i, intensity);
 		}
 
 	}
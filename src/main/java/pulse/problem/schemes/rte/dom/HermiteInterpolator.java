@@ -1,5 +1,7 @@
 package pulse.problem.schemes.rte.dom;
 
+import java.util.Arrays;
+
 /**
  * A globally C<sup>1</sup> Hermite interpolator used to interpolate intensities and derivatives
  * in discrete ordinates method when solving the radiative transfer equation with a Runge-Kutta
@@ -18,6 +20,12 @@ public class HermiteInterpolator {
 	protected double a;
 	protected double bMinusA;
 
+	private double[][][] iExt;
+	private int[] cells;
+	private double[] local;
+	private double[] mappedNodes;
+	private double mappedDimension;
+
 	public void clear() {
 		y1 = 0;
 		y0 = 0;
@@ -62,6 +70,12 @@ public class HermiteInterpolator {
 	 * Interpolates intensities and their derivatives w.r.t. tau on EXTERNAL grid
 	 * points of the heat problem solver based on the derivatives on INTERNAL grid
 	 * points of DOM solver.
+	 * <p>
+	 * The mapping between the external points and the intervals of the internal
+	 * grid is found by merging the two sorted sets of nodes. It is stored and
+	 * only re-calculated when either grid changes. The output array is also
+	 * re-used, so its contents are only valid until the next call.
+	 * </p>
 	 * @param externalGridSize the number of points in the external grid
 	 * @param integrator the adaptive integrator
 	 * @return a three-dimensional array containing the interpolated intensities and derivatives
@@ -74,52 +88,55 @@ public class HermiteInterpolator {
 		final var derivatives = discrete.getQuantities().getDerivatives();
 		final int total = discrete.getOrdinates().getTotalNodes();
 
-		var iExt = new double[2][externalGridSize][total];
-		double t;
+		if (iExt == null || iExt[0].length != externalGridSize || iExt[0][0].length != total)
+			iExt = new double[2][externalGridSize][total];
 
-		final double hx = internalGrid.getDimension() / (externalGridSize - 1.0);
-		final int n = internalGrid.getDensity() + 1;
+		map(externalGridSize, internalGrid);
+
+		final int last = internalGrid.getDensity();
 
 		/*
 		 * Loop through the external grid points
 		 */
-		outer: for (int i = 0; i < iExt[0].length; i++) {
-			t = i * hx;
-
-			// loops through nodes sorted in ascending order
-			for (int j = 0; j < n; j++) {
-
-				/*
-				 * if node is greater than t, then the associated function can be interpolated
-				 * between points f_i and f_i-1, since t lies between nodes n_i and n_i-1
-				 */
-				if (internalGrid.getNode(j) > t) { // nearest points on internal grid have been found -> j - 1 and j
+		for (int i = 0; i < externalGridSize; i++) {
+			final double[] intensity = iExt[0][i];
+			final double[] derivative = iExt[1][i];
+			final int j = cells[i];
+
+			if (j > last) {
+				System.arraycopy(intensities[last], 0, intensity, 0, total);
+				System.arraycopy(derivatives[last], 0, derivative, 0, total);
+				continue;
+			}
 
-					a = internalGrid.getNode(j - 1);
-					bMinusA = internalGrid.stepLeft(j);
+			// Hermite basis at the local coordinate between nodes j - 1 and j
 
-					/*
-					 * Loops through ordinate set
-					 */
+			final double t = local[i];
+			final double h = internalGrid.stepLeft(j);
+			final double tMinusOne = t - 1.0;
+			final double tt1 = t * tMinusOne;
 
-					for (int k = 0; k < total; k++) {
-						y0 = intensities[j - 1][k];
-						y1 = intensities[j][k];
-						d0 = derivatives[j - 1][k];
-						d1 = derivatives[j][k];
-						iExt[0][i][k] = interpolate(t); // intensity
-						iExt[1][i][k] = derivative(t); // derivative
-					}
+			final double h00 = tMinusOne * tMinusOne * (1.0 + 2.0 * t);
+			final double h01 = t * t * (3.0 - 2.0 * t);
+			final double h10 = tMinusOne * tt1 * h;
+			final double h11 = t * tt1 * h;
 
-					continue outer; // move to next point t
+			final double g = 6.0 * tt1 / h;
+			final double g10 = 3.0 * t * t - 4.0 * t + 1.0;
+			final double g11 = t * (3.0 * t - 2.0);
 
-				}
+			final double[] i0 = intensities[j - 1];
+			final double[] i1 = intensities[j];
+			final double[] f0 = derivatives[j - 1];
+			final double[] f1 = derivatives[j];
 
-			}
+			/*
+			 * Loops through ordinate set
+			 */
 
 			for (int k = 0; k < total; k++) {
-				iExt[0][i][k] = intensities[internalGrid.getDensity()][k];
-				iExt[1][i][k] = derivatives[internalGrid.getDensity()][k];
+				intensity[k] = h00 * i0[k] + h01 * i1[k] + h10 * f0[k] + h11 * f1[k];
+				derivative[k] = g * (i0[k] - i1[k]) + g10 * f0[k] + g11 * f1[k];
 			}
 
 		}
@@ -127,4 +144,37 @@ public class HermiteInterpolator {
 		return iExt;
 	}
 
+	/*
+	 * For each external point t, finds the first internal node greater than t
+	 * (or density + 1 if there is none) and the local coordinate of t in the
+	 * preceding interval.
+	 */
+
+	private void map(final int externalGridSize, StretchedGrid internalGrid) {
+		final double[] nodes = internalGrid.getNodes();
+		final int n = internalGrid.getDensity() + 1;
+
+		if (cells != null && cells.length == externalGridSize && mappedDimension == internalGrid.getDimension()
+				&& Arrays.equals(mappedNodes, 0, mappedNodes.length, nodes, 0, n))
+			return;
+
+		cells = new int[externalGridSize];
+		local = new double[externalGridSize];
+		mappedNodes = Arrays.copyOf(nodes, n);
+		mappedDimension = internalGrid.getDimension();
+
+		final double hx = mappedDimension / (externalGridSize - 1.0);
+
+		for (int i = 0, j = 0; i < externalGridSize; i++) {
+			final double t = i * hx;
+
+			// both sets of nodes are sorted in ascending order
+			while (j < n && nodes[j] <= t)
+				j++;
+
+			cells[i] = j;
+			local[i] = j < n ? (t - nodes[j - 1]) / internalGrid.stepLeft(j) : 0.0;
+		}
+	}
+
 }
\ No newline at end of file
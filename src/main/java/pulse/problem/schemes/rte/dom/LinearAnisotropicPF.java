@@ -21,12 +21,6 @@ public class LinearAnisotropicPF extends PhaseFunction {
 		g = 3.0 * getAnisotropyFactor();
 	}
 
-	@Override
-	public double partialSum(final int i, final int j, final int n1, final int n2Exclusive) {
-		final var intensities = getDiscreteIntensities();
-		return intensities.incidentRadiation(j, n1, n2Exclusive) + g * intensities.getOrdinates().getNode(i) * intensities.flux(j, n1, n2Exclusive);
-	}
-
 	@Override
 	public double function(final int i, final int k) {
 		final var ordinates = getDiscreteIntensities().getOrdinates();
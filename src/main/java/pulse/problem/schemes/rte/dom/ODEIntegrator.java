@@ -22,7 +22,7 @@ public abstract class ODEIntegrator extends PropertyHolder implements Reflexive
 	protected void init(ParticipatingMedium problem) {
 		discretisation.setEmissivity((double)problem.getProperties().getEmissivity().getValue());
 		var properties = (ThermoOpticalProperties)problem.getProperties();
-		discretisation.setGrid(new StretchedGrid((double) properties.getOpticalThickness().getValue()));
+		discretisation.setGrid(new StretchedGrid(properties.opticalThickness()));
 		setEmissionFunction(new BlackbodySpectrum(problem));
 	}
 
@@ -33,14 +33,13 @@ public abstract class ODEIntegrator extends PropertyHolder implements Reflexive
 
 			var grid = discretisation.getGrid();
 			var quantities = discretisation.getQuantities();
-			double denominator = 0;
 			final double halfAlbedo = pf.getHalfAlbedo();
+			final double denominator = 1.0 - halfAlbedo * pf.weightedFunction(0, 0);
 
 			// loop through the spatial indices
 			for (int j = 0; j < grid.getDensity() + 1; j++) {
 
 				// solve I_k = S_k for mu[k] = 0
-				denominator = 1.0 - halfAlbedo * ordinates.getWeight(0) * pf.function(0, 0);
 				quantities.setIntensity(j, 0,
 						(emission(grid.getNode(j)) + halfAlbedo * pf.sumExcludingIndex(0, j, 0)) / denominator);
 
@@ -69,28 +68,18 @@ public abstract class ODEIntegrator extends PropertyHolder implements Reflexive
 
 	public double source(int i, int j, double t, double I) {
 		return emission(t) + pf.getHalfAlbedo()
-				* (pf.sumExcludingIndex(i, j, i) + pf.function(i, i) * discretisation.getOrdinates().getWeight(i) * I);
+				* (pf.sumExcludingIndex(i, j, i) + pf.weightedFunction(i, i) * I);
 	}
 
 	public double source(final int i, final double[] iOut, final double[] iIn, final double t, final int l1,
 			final int l2) {
 
-		double sumOut = 0;
-		final var ordinates = discretisation.getOrdinates();
+		final int total = discretisation.getOrdinates().getTotalNodes();
 
-		for (int l = l1; l < l2; l++) {
-			// sum over the OUTWARD intensities iOut
-			sumOut += iOut[l - l1] * ordinates.getWeight(l) * pf.function(i, l);
-		}
-
-		double sumIn = 0;
-
-		for (int start = ordinates.getTotalNodes() - l2, l = start, end = ordinates.getTotalNodes()
-				- l1; l < end; l++) {
-			// sum over the INWARD
-			// intensities iIn
-			sumIn += iIn[l - start] * ordinates.getWeight(l) * pf.function(i, l);
-		}
+		// sum over the OUTWARD intensities iOut
+		final double sumOut = pf.inwardPartialSum(i, iOut, l1, l2);
+		// sum over the INWARD intensities iIn
+		final double sumIn = pf.inwardPartialSum(i, iIn, total - l2, total - l1);
 
 		return emission(t) + pf.getHalfAlbedo() * (sumIn + sumOut); // contains sum over the incoming rays
 
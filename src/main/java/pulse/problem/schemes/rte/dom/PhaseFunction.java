@@ -4,12 +4,23 @@ import pulse.problem.statements.ParticipatingMedium;
 import pulse.problem.statements.ThermoOpticalProperties;
 import pulse.util.Reflexive;
 
+/**
+ * A scattering phase function. For a given ordinate set, the values of the
+ * function multiplied by the quadrature weights are tabulated once after each
+ * {@code init}, so that the partial sums used to calculate the source term
+ * reduce to dot products with the intensities.
+ *
+ */
+
 public abstract class PhaseFunction implements Reflexive {
 
 	private Discretisation intensities;
 	private double anisotropy;
 	private double halfAlbedo;
 
+	private double[][] weighted; // w_k * function(i, k)
+	private OrdinateSet tabulatedSet;
+
 	public PhaseFunction(ParticipatingMedium medium, Discretisation intensities) {
 		this.intensities = intensities;
 		init(medium);
@@ -24,27 +35,67 @@ public abstract class PhaseFunction implements Reflexive {
 	}
 
 	public double partialSum(int i, int j, int startInclusive, int endExclusive) {
+		final double[] row = weightedRow(i);
+		final double[] intensity = intensities.getQuantities().getIntensities()[j];
 		double result = 0;
-		final var ordinates = intensities.getOrdinates();
-		final var quantities = intensities.getQuantities();
 
 		for (int k = startInclusive; k < endExclusive; k++) {
-			result += ordinates.getWeight(k) * quantities.getIntensity(j, k) * function(i, k);
+			result += row[k] * intensity[k];
 		}
 		return result;
 	}
 
 	public double inwardPartialSum(int i, double[] inward, int kStart, int kEndExclusive) {
+		final double[] row = weightedRow(i);
 		double result = 0;
-		final var ordinates = intensities.getOrdinates();
-		
+
 		for (int k = kStart; k < kEndExclusive; k++) {
-			result += ordinates.getWeight(k) * inward[k - kStart] * function(i, k);
+			result += row[k] * inward[k - kStart];
 		}
 
 		return result;
 	}
 
+	/**
+	 * Retrieves the tabulated value of this function multiplied by the quadrature
+	 * weight of the ordinate {@code k}.
+	 * 
+	 * @param i the index of the first ordinate
+	 * @param k the index of the second ordinate
+	 * @return <math><i>w</i><sub>k</sub> &times; function(<i>i</i>,
+	 *         <i>k</i>)</math>
+	 */
+
+	public double weightedFunction(int i, int k) {
+		return weightedRow(i)[k];
+	}
+
+	/**
+	 * Retrieves the row {@code i} of the tabulated function multiplied by the
+	 * quadrature weights. The table is re-calculated if the ordinate set has
+	 * changed or {@code init} has been called since the last tabulation.
+	 */
+
+	private double[] weightedRow(int i) {
+		final var ordinates = intensities.getOrdinates();
+		if (ordinates != tabulatedSet)
+			tabulate(ordinates);
+		return weighted[i];
+	}
+
+	private void tabulate(OrdinateSet ordinates) {
+		final int n = ordinates.getTotalNodes();
+
+		if (weighted == null || weighted.length != n)
+			weighted = new double[n][n];
+
+		for (int i = 0; i < n; i++)
+			for (int k = 0; k < n; k++)
+				weighted[i][k] = ordinates.getWeight(k) * function(i, k);
+
+		tabulatedSet = ordinates;
+	}
+
 	public abstract double function(int i, int k);
 
 	public double getAnisotropyFactor() {
@@ -57,8 +108,9 @@ public abstract class PhaseFunction implements Reflexive {
 
 	public void init(ParticipatingMedium problem) {
 		var properties = (ThermoOpticalProperties)problem.getProperties();
-		this.anisotropy = (double) properties.getScatteringAnisostropy().getValue();
-		this.halfAlbedo = 0.5 * (double) properties.getScatteringAlbedo().getValue();
+		this.anisotropy = properties.scatteringAnisotropy();
+		this.halfAlbedo = 0.5 * properties.scatteringAlbedo();
+		tabulatedSet = null; // the function will be re-tabulated when needed
 	}
 
 	@Override
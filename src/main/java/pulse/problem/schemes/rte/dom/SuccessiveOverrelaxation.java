@@ -21,7 +21,7 @@ public class SuccessiveOverrelaxation extends IterativeSolver {
 		this.W = (double) def(RELAXATION_PARAMETER).getValue();
 	}
 
-	private void successiveOverrelaxation(AdaptiveIntegrator integrator) {
+	protected void successiveOverrelaxation(AdaptiveIntegrator integrator) {
 
 		final var intensities = integrator.getDiscretisation();
 		final var quantities = intensities.getQuantities();
@@ -1,7 +1,8 @@
 package pulse.problem.schemes.rte.dom;
 
-import pulse.math.linear.Matrices;
-import pulse.math.linear.SquareMatrix;
+import java.util.Arrays;
+
+import pulse.math.linear.LUDecomposition;
 import pulse.math.linear.Vector;
 import pulse.problem.schemes.rte.RTECalculationStatus;
 
@@ -56,9 +57,26 @@ public class TRBDF2 extends AdaptiveIntegrator {
 	private double[] est; // error estimator
 	private double[][] aMatrix; // matrix of linear set A * x = B
 
-	private SquareMatrix invA; // inverse matrix
-	private Vector i2; // second stage (trapezoidal)
+	private double[] i2; // second stage (trapezoidal)
 	private Vector i3; // third stage (backward-difference second order)
+	private Vector error; // error estimate
+	private Vector[] result;
+
+	/*
+	 * LU factorisations of the matrix A for each step of the grid, separately for
+	 * the forward (index 0) and the backward (index 1) sweeps. The matrix only
+	 * depends on the step size, the ordinate set and the phase function, so the
+	 * factorisations are re-used by all stages and by subsequent integrations
+	 * until any of these changes.
+	 */
+
+	private LUDecomposition[][] factorisations;
+	private double[][] factorisedSteps;
+
+	private PhaseFunction factorisedPhaseFunction;
+	private OrdinateSet factorisedOrdinates;
+	private double factorisedAlbedo;
+	private double factorisedAnisotropy;
 
 	/*
 	 * Constants for third-stage calculation
@@ -75,15 +93,58 @@ public class TRBDF2 extends AdaptiveIntegrator {
 	public RTECalculationStatus integrate() {
 		final int nH = getDiscretisation().getOrdinates().getHalfLength();
 
-		bVector = new double[nH];
-		est = new double[nH];
-		aMatrix = new double[nH][nH];
-		inward = new double[nH];
+		if (bVector == null || bVector.length != nH) {
+			bVector = new double[nH];
+			est = new double[nH];
+			aMatrix = new double[nH][nH];
+			inward = new double[nH];
+			i2 = new double[nH];
+			i3 = new Vector(nH);
+			error = new Vector(nH);
+			result = new Vector[] { i3, error };
+			k = new double[3][nH];
+			factorisations = null;
+		}
 
-		k = new double[3][nH];
+		checkFactorisations();
 		return super.integrate();
 	}
-	
+
+	/**
+	 * Discards the stored factorisations if the ordinate set, the phase function
+	 * or the scattering parameters have changed since these were calculated, and
+	 * makes sure there is enough space for each step of the current grid.
+	 */
+
+	private void checkFactorisations() {
+		final var pf = getPhaseFunction();
+		final var ordinates = getDiscretisation().getOrdinates();
+
+		if (factorisations == null || pf != factorisedPhaseFunction || ordinates != factorisedOrdinates
+				|| pf.getHalfAlbedo() != factorisedAlbedo || pf.getAnisotropyFactor() != factorisedAnisotropy) {
+			factorisations = new LUDecomposition[2][0];
+			factorisedSteps = new double[2][0];
+			factorisedPhaseFunction = pf;
+			factorisedOrdinates = ordinates;
+			factorisedAlbedo = pf.getHalfAlbedo();
+			factorisedAnisotropy = pf.getAnisotropyFactor();
+		}
+
+		ensureCapacity(getDiscretisation().getGrid().getDensity() + 1);
+	}
+
+	private void ensureCapacity(final int size) {
+		if (factorisations == null || factorisedSteps[0].length >= size)
+			return;
+
+		for (int s = 0; s < 2; s++) {
+			final int old = factorisedSteps[s].length;
+			factorisations[s] = Arrays.copyOf(factorisations[s], size);
+			factorisedSteps[s] = Arrays.copyOf(factorisedSteps[s], size);
+			Arrays.fill(factorisedSteps[s], old, size, Double.NaN);
+		}
+	}
+
 	/**
 	 * Generates a non-uniform (stretched at boundaries) grid using the 
 	 * argument as the density.
@@ -93,6 +154,7 @@ public class TRBDF2 extends AdaptiveIntegrator {
 	@Override
 	public void generateGrid(int nNew) {
 		getDiscretisation().getGrid().generate(nNew);
+		ensureCapacity(nNew + 1);
 	}
 
 	/**
@@ -177,11 +239,6 @@ public class TRBDF2 extends AdaptiveIntegrator {
 		 * Trapezoidal step
 		 */
 
-		final double prefactorNumerator = -hd * getPhaseFunction().getHalfAlbedo();
-		
-		double matrixPrefactor;
-		final var ordinates = intensities.getOrdinates();
-
 		for (int i = 0; i < halfLength; i++) {
 
 			quantities.setDerivative(j, i + n1, k[0][i]); // store derivatives for Hermite interpolation
@@ -191,51 +248,91 @@ public class TRBDF2 extends AdaptiveIntegrator {
 			// INWARD
 			// intensities
 
-			matrixPrefactor = prefactorNumerator / ordinates.getNode(i + n1);
-
-			// all elements
-			for (int k = 0; k < aMatrix[0].length; k++) {
-				aMatrix[i][k] = matrixPrefactor * ordinates.getWeight(k + n5)
-						* getPhaseFunction().function(i + n1, k + n5); // only
-				// OUTWARD
-				// (and zero)
-				// intensities
-			}
-
-			// additionally for the diagonal elements
-			aMatrix[i][i] += 1.0 + hd / ordinates.getNode(i + n1);
-
 		}
 
-		invA = (Matrices.createMatrix(aMatrix)).inverse(); // this matrix is re-used for subsequent stages
-		i2 = invA.multiply(new Vector(bVector)); // intensity vector at 2nd stage
+		var lu = factorisation(j, sign, h, n1, n5); // this matrix is re-used for subsequent stages
+		lu.solve(bVector, i2); // intensity vector at 2nd stage
 
 		/*
 		 * ================== Third stage (BDF2) ==================
 		 */
 
 		final double th = t + h;
+		final var i3Data = i3.getData();
 
-		for (int i = 0; i < aMatrix.length; i++) {
+		for (int i = 0; i < halfLength; i++) {
 
-			bVector[i] = quantities.getIntensity(j, i + n1) * _1w_d + w_d * i2.get(i)
+			bVector[i] = quantities.getIntensity(j, i + n1) * _1w_d + w_d * i2[i]
 					+ hd * partial(i + n1, j + increment, th, n3, n4); // only INWARD intensities at node j + 1 (i.e. no
 																		// interpolation)
-			k[1][i] = (i2.get(i) - quantities.getIntensity(j, i + n1)) / hd - k[0][i];
+			k[1][i] = (i2[i] - quantities.getIntensity(j, i + n1)) / hd - k[0][i];
 
 		}
 
-		i3 = invA.multiply(new Vector(bVector));
+		lu.solve(bVector, i3Data);
 
-		for (int i = 0; i < aMatrix.length; i++) {
-			k[2][i] = (i3.get(i) - quantities.getIntensity(j, i + n1)
-					- w_d * (i2.get(i) - quantities.getIntensity(j, i + n1))) / hd;
+		for (int i = 0; i < halfLength; i++) {
+			k[2][i] = (i3Data[i] - quantities.getIntensity(j, i + n1)
+					- w_d * (i2[i] - quantities.getIntensity(j, i + n1))) / hd;
 			quantities.setQLast(i, k[2][i]);
 			est[i] = (bbHat[0] * k[0][i] + bbHat[1] * k[1][i] + bbHat[2] * k[2][i]) * h;
 		}
 
-		return new Vector[] { i3, invA.multiply(new Vector(est)) };
+		lu.solve(est, error.getData());
+
+		return result;
+
+	}
+
+	/**
+	 * Retrieves the LU factorisation of the matrix A for the step {@code j} of the
+	 * current sweep. The matrix is only assembled and decomposed if the step size
+	 * has changed since the factorisation was last calculated.
+	 *
+	 * @param j    the index of the grid node
+	 * @param sign the direction of the sweep
+	 * @param h    the signed step size
+	 * @param n1   the index of the first OUTWARD intensity
+	 * @param n5   either 0 or the first negative index
+	 * @return the factorisation of the matrix for this step
+	 */
+
+	private LUDecomposition factorisation(final int j, final double sign, final double h, final int n1,
+			final int n5) {
+		final int s = sign > 0 ? 0 : 1;
+		var lu = factorisations[s][j];
+
+		if (lu == null) {
+			lu = new LUDecomposition(aMatrix.length);
+			factorisations[s][j] = lu;
+		} else if (factorisedSteps[s][j] == h)
+			return lu;
+
+		final var ordinates = getDiscretisation().getOrdinates();
+		final var pf = getPhaseFunction();
+		final double hd = h * d;
+		final double prefactorNumerator = -hd * pf.getHalfAlbedo();
+
+		for (int i = 0; i < aMatrix.length; i++) {
+
+			final double matrixPrefactor = prefactorNumerator / ordinates.getNode(i + n1);
+
+			// all elements
+			for (int k = 0; k < aMatrix[0].length; k++) {
+				aMatrix[i][k] = matrixPrefactor * pf.weightedFunction(i + n1, k + n5); // only
+				// OUTWARD
+				// (and zero)
+				// intensities
+			}
+
+			// additionally for the diagonal elements
+			aMatrix[i][i] += 1.0 + hd / ordinates.getNode(i + n1);
+
+		}
 
+		lu.decompose(aMatrix);
+		factorisedSteps[s][j] = h;
+		return lu;
 	}
 
 }
\ No newline at end of file
@@ -13,7 +13,9 @@ import static pulse.properties.NumericPropertyKeyword.QUADRATURE_POINTS;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.IntStream;
 
 import org.apache.commons.math3.analysis.solvers.LaguerreSolver;
@@ -30,6 +32,16 @@ import pulse.properties.Property;
  * This quadrature methods of evaluating the composition product of the
  * exponential integral and blackbody spectral power spectrum has been given by
  * Chandrasekhar and is based on constructing a moment matrix.
+ * <p>
+ * The quadrature nodes and weights are calculated in the transformed variable
+ * <math><i>t</i> = &alpha; + &beta; <i>x</i></math>, where they only depend on
+ * the transformed integration bounds, the order of the exponential integral
+ * and the number of nodes. The rules are therefore cached using these values
+ * as a key: any combination of coefficients and bounds mapping onto the same
+ * interval of <i>t</i> re-uses the same rule, and only the nodes are mapped
+ * back to <i>x</i>. The cache holds at most {@value CACHE_SIZE} rules, evicting
+ * the least recently used ones.
+ * </p>
  * 
  * @see <a href="https://archive.org/details/RadiativeTransfer">Chandrasekhar,
  *      S. Radiative transfer</a>
@@ -44,6 +56,19 @@ public class ChandrasekharsQuadrature extends CompositionProduct {
 	private LaguerreSolver solver;
 	private double[] moments;
 
+	private final static int CACHE_SIZE = 4096;
+
+	private final Map<RuleKey, Rule> cache = new LinkedHashMap<>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<RuleKey, Rule> eldest) {
+			return size() > CACHE_SIZE;
+		}
+
+	};
+
 	/**
 	 * Constructs a {@code ChandrasekharsQuadrature} object with a default number of
 	 * nodes, a {@code LaguerreSolver} with default precision and integration bounds
@@ -59,14 +84,19 @@ public class ChandrasekharsQuadrature extends CompositionProduct {
 	@Override
 	public double integrate() {
 		var bounds = this.transformedBounds();
-		expLower = -exp(-bounds[0]);
-		expUpper = -exp(-bounds[1]);
+		var key = new RuleKey(bounds[0], bounds[1], getOrder(), m);
+		var rule = cache.get(key);
 
-		double[] roots = roots();
+		if (rule == null) {
+			expLower = -exp(-bounds[0]);
+			expUpper = -exp(-bounds[1]);
 
-		Vector weights = weights(roots);
+			double[] roots = roots();
+			rule = new Rule(roots, weights(roots).getData());
+			cache.put(key, rule);
+		}
 
-		return f(roots).dot(weights) / getBeta();
+		return rule.sum() / getBeta();
 	}
 
 	public NumericProperty getQuadraturePoints() {
@@ -76,6 +106,7 @@ public class ChandrasekharsQuadrature extends CompositionProduct {
 	public void setQuadraturePoints(NumericProperty m) {
 		requireType(m, QUADRATURE_POINTS);
 		this.m = (int) m.getValue();
+		cache.clear();
 	}
 
 	@Override
@@ -100,11 +131,6 @@ public class ChandrasekharsQuadrature extends CompositionProduct {
 	 * Private methods
 	 */
 
-	private Vector f(final double[] roots) {
-		final var ef = getEmissionFunction();
-		return new Vector(Arrays.stream(roots).map(root -> ef.powerAt(root)).toArray());
-	}
-
 	private double[] transformedBounds() {
 		final double min = getBounds().getMinimum();
 		final double max = getBounds().getMaximum();
@@ -116,7 +142,7 @@ public class ChandrasekharsQuadrature extends CompositionProduct {
 
 		for (int l = 0; l < m; l++) {
 			for (int j = 0; j < m; j++) {
-				x[l][j] = fastPowLoop(roots[j] * getBeta() + getAlpha(), l);
+				x[l][j] = fastPowLoop(roots[j], l);
 			}
 		}
 
@@ -264,11 +290,73 @@ public class ChandrasekharsQuadrature extends CompositionProduct {
 			roots = Arrays.stream(solver.solveAllComplex(c, 1.0)).mapToDouble(complex -> complex.getReal()).toArray();
 		}
 
-		for (int i = 0; i < roots.length; i++) {
-			roots[i] = (roots[i] - getAlpha()) / getBeta();
+		return roots;
+
+	}
+
+	/*
+	 * Nodes (in the transformed variable) and weights of a quadrature rule.
+	 */
+
+	private class Rule {
+
+		private final double[] nodes;
+		private final double[] weights;
+
+		public Rule(double[] nodes, double[] weights) {
+			this.nodes = nodes;
+			this.weights = weights;
 		}
 
-		return roots;
+		public double sum() {
+			final var ef = getEmissionFunction();
+			final double alpha = getAlpha();
+			final double beta = getBeta();
+
+			double sum = 0;
+
+			for (int i = 0; i < nodes.length; i++)
+				sum += weights[i] * ef.powerAt((nodes[i] - alpha) / beta);
+
+			return sum;
+		}
+
+	}
+
+	private static class RuleKey {
+
+		private final double lower;
+		private final double upper;
+		private final int order;
+		private final int nodes;
+
+		public RuleKey(double lower, double upper, int order, int nodes) {
+			this.lower = lower;
+			this.upper = upper;
+			this.order = order;
+			this.nodes = nodes;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = Double.hashCode(lower);
+			result = 31 * result + Double.hashCode(upper);
+			result = 31 * result + order;
+			return 31 * result + nodes;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o)
+				return true;
+
+			if (!(o instanceof RuleKey))
+				return false;
+
+			var k = (RuleKey) o;
+			return Double.compare(lower, k.lower) == 0 && Double.compare(upper, k.upper) == 0 && order == k.order
+					&& nodes == k.nodes;
+		}
 
 	}
 
@@ -1,7 +1,6 @@
 package pulse.problem.schemes.rte.exact;
 
 import pulse.math.AbstractIntegrator;
-import pulse.math.FunctionWithInterpolation;
 import pulse.math.Segment;
 import pulse.problem.schemes.rte.BlackbodySpectrum;
 
@@ -18,7 +17,7 @@ public abstract class CompositionProduct extends AbstractIntegrator {
 	private double beta;
 	private int order;
 
-	private FunctionWithInterpolation expIntegral;
+	private ExponentialIntegral expIntegral;
 	private BlackbodySpectrum blackbody;
 
 	/**
@@ -4,7 +4,6 @@ import static java.lang.Double.compare;
 
 import java.util.stream.IntStream;
 
-import pulse.math.FunctionWithInterpolation;
 import pulse.math.Segment;
 import pulse.problem.schemes.Grid;
 import pulse.problem.schemes.rte.FluxesAndExplicitDerivatives;
@@ -21,7 +20,7 @@ import pulse.problem.statements.ThermoOpticalProperties;
 
 public class NonscatteringAnalyticalDerivatives extends NonscatteringRadiativeTransfer {
 
-	private static FunctionWithInterpolation ei2 = ExponentialIntegrals.get(2);
+	private static ExponentialIntegral ei2 = ExponentialIntegrals.get(2);
 
 	public NonscatteringAnalyticalDerivatives(ParticipatingMedium problem, Grid grid) {
 		super(problem, grid);
@@ -58,7 +57,7 @@ public class NonscatteringAnalyticalDerivatives extends NonscatteringRadiativeTr
 
 		double value = getRadiosityFront() * ei2.valueAt(t)
 				+ getRadiosityRear() * ei2.valueAt(getFluxes().getOpticalThickness() - t)
-				- 2.0 * getEmissionFunction().powerAt(t) + integrateFirstOrder(t);
+				- 2.0 * getEmissionFunction().powerAtNode(uIndex) + integrateFirstOrder(t);
 		return 2.0 * value;
 	}
 
@@ -3,7 +3,6 @@ package pulse.problem.schemes.rte.exact;
 import java.util.List;
 import java.util.stream.IntStream;
 
-import pulse.math.FunctionWithInterpolation;
 import pulse.math.Segment;
 import pulse.problem.schemes.Grid;
 import pulse.problem.schemes.rte.BlackbodySpectrum;
@@ -17,7 +16,7 @@ import pulse.util.InstanceDescriptor;
 
 public abstract class NonscatteringRadiativeTransfer extends RadiativeTransferSolver {
 
-	private static FunctionWithInterpolation ei3 = ExponentialIntegrals.get(3);
+	private static ExponentialIntegral ei3 = ExponentialIntegrals.get(3);
 
 	private double emissivity;
 
@@ -53,7 +52,7 @@ public abstract class NonscatteringRadiativeTransfer extends RadiativeTransferSo
 
 	@Override
 	public RTECalculationStatus compute(double[] array) {
-		emissionFunction.setInterpolation(interpolateTemperatureProfile(array));
+		emissionFunction.setTemperatureProfile(interpolateTemperatureProfile(array), array);
 		radiosities();
 		return RTECalculationStatus.NORMAL;
 	}
@@ -211,7 +210,7 @@ public abstract class NonscatteringRadiativeTransfer extends RadiativeTransferSo
 	 */
 
 	private double a1(final double doubleReflectivity) {
-		return emissivity * emissionFunction.powerAt(0.0) + doubleReflectivity * integrateSecondOrder(0.0, 1.0);
+		return emissivity * emissionFunction.powerAtNode(0) + doubleReflectivity * integrateSecondOrder(0.0, 1.0);
 	}
 
 	/*
@@ -222,7 +221,8 @@ public abstract class NonscatteringRadiativeTransfer extends RadiativeTransferSo
 
 	private double a2(final double doubleReflectivity) {
 		final double tau0 = getFluxes().getOpticalThickness();
-		return emissivity * emissionFunction.powerAt(tau0) + doubleReflectivity * integrateSecondOrder(tau0, -1.0);
+		return emissivity * emissionFunction.powerAtNode(emissionFunction.lastNode())
+				+ doubleReflectivity * integrateSecondOrder(tau0, -1.0);
 	}
 
 	/*
@@ -1,21 +1,87 @@
 package pulse.problem.schemes.solvers;
 
+import static pulse.problem.schemes.Partition.Location.CORE_X;
+import static pulse.problem.schemes.Partition.Location.FRONT_Y;
+import static pulse.problem.schemes.Partition.Location.REAR_Y;
+import static pulse.problem.schemes.Partition.Location.SIDE_X;
 import static pulse.properties.NumericProperties.def;
 import static pulse.properties.NumericPropertyKeyword.SHELL_GRID_DENSITY;
+import static pulse.ui.Launcher.threadsAvailable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.stream.IntStream;
 
+import pulse.problem.laser.DiscretePulse2D;
 import pulse.problem.schemes.ADIScheme;
 import pulse.problem.schemes.DifferenceScheme;
 import pulse.problem.schemes.LayeredGrid2D;
 import pulse.problem.schemes.Partition;
 import pulse.problem.schemes.Partition.Location;
 import pulse.problem.statements.CoreShellProblem;
+import pulse.problem.statements.ExtendedThermalProperties;
 import pulse.problem.statements.Problem;
 import pulse.properties.NumericProperty;
 
+/**
+ * An alternating direction implicit (ADI) solver for a core-shell problem,
+ * where a cylindrical core is enclosed in a coating of uniform thickness at the
+ * front, rear and side surfaces.
+ * <p>
+ * The solver uses a tensor-product grid built from the {@code Partition}s of a
+ * {@code LayeredGrid2D}: the core is partitioned uniformly, while the front,
+ * rear and side shells use their own grid densities. The heat equation is
+ * discretised with a finite-volume approach, where each grid cell is filled
+ * either with the core or with the coating material. The continuity of
+ * temperature and heat flux at the core-shell interfaces is then satisfied by
+ * averaging the diffusivities of adjacent cells over each control volume face.
+ * The volumetric heat capacities of the core and the shell are assumed to be
+ * equal.
+ * </p>
+ * <p>
+ * The tridiagonal coefficients and the sweep coefficients are calculated once
+ * per {@code prepare} for each distinct class of lines (e.g. the lines entirely
+ * within the shell or the lines crossing the core) and shared by all lines of
+ * that class. The solution and sweep workspaces are re-used by subsequent
+ * solutions on a grid of the same size, and the line sweeps are run in parallel
+ * on sufficiently dense grids.
+ * </p>
+ *
+ */
+
 public class ADILayeredSolver extends ADIScheme implements Solver<CoreShellProblem> {
 
+	private int nx;
+	private int ny;
+	private double tau;
+	private int firstIndex;
+	private int lastIndex;
+
+	private double[] x;
+	private double[] y;
+
+	/*
+	 * U holds the solution, V the intermediate solution after the first half-step.
+	 * Both arrays are stored with an offset of one node in each direction, the
+	 * outermost rows and columns are always zero.
+	 */
+
+	private double[][] U;
+	private double[][] V;
+
+	private Line[] rows;
+	private Line[] columns;
+
+	private double[][] beta;
+	private double[] laser;
+	private double[] noSource;
+	private double sourceFactor;
+	private int groups;
+
+	private final static double EPS = 1e-8;
+
 	public ADILayeredSolver() {
 		super();
 		initGrid(getGrid().getGridDensity(), def(SHELL_GRID_DENSITY), getGrid().getTimeFactor());
@@ -43,25 +109,261 @@ public class ADILayeredSolver extends ADIScheme implements Solver<CoreShellProbl
 		getGrid().setTimeFactor(timeFactor);
 	}
 
+	/*
+	 * The axial shells are measured in units of the sample thickness, the side
+	 * shell in units of the core radius.
+	 */
+
 	private void prepareGrid(CoreShellProblem problem) {
-		var layeredGrid = (LayeredGrid2D) getGrid(); // TODO
-		layeredGrid.getPartition(Location.FRONT_Y).setGridMultiplier(problem.axialFactor());
-		layeredGrid.getPartition(Location.REAR_Y).setGridMultiplier(problem.axialFactor());
-		layeredGrid.getPartition(Location.SIDE_X).setGridMultiplier(problem.radialFactor());
+		var layeredGrid = (LayeredGrid2D) getGrid();
+		var properties = (ExtendedThermalProperties) problem.getProperties();
+		final double l = properties.sampleThickness();
+		final double d = properties.sampleDiameter();
+		layeredGrid.getPartition(FRONT_Y).setGridMultiplier(problem.axialFactor());
+		layeredGrid.getPartition(REAR_Y).setGridMultiplier(problem.axialFactor());
+		layeredGrid.getPartition(SIDE_X).setGridMultiplier(problem.radialFactor() * 2.0 * l / d);
 	}
 
-	@Override
-	public void solve(CoreShellProblem problem) {
+	private void prepare(CoreShellProblem problem) {
 		prepareGrid(problem);
+		super.prepare(problem);
+
+		var grid = (LayeredGrid2D) getGrid();
+		tau = grid.getTimeStep();
+
+		var properties = (ExtendedThermalProperties) problem.getProperties();
+
+		final double Bi1 = properties.heatLoss();
+		final double Bi3 = properties.sideLosses();
+		final double l = properties.sampleThickness();
+		final double d = properties.sampleDiameter();
+		final double fovOuter = properties.fovOuter();
+		final double fovInner = properties.fovInner();
+
+		final double kappa = (double) problem.getCoatingDiffusivity().getValue()
+				/ properties.diffusivity();
+
+		// core density
+
+		final int n = (int) grid.getGridDensity().getValue();
+
+		// shell densities
+
+		final int nSide = shellDensity(grid.getPartition(SIDE_X));
+		final int nFront = shellDensity(grid.getPartition(FRONT_Y));
+		final int nRear = shellDensity(grid.getPartition(REAR_Y));
+
+		nx = n + nSide;
+		ny = nFront + n + nRear;
+
+		allocate();
+
+		nodes(x, 0, n, 0.0, 1.0 / n);
+		nodes(x, n, nSide, 1.0, grid.getPartition(SIDE_X).evaluate());
+
+		final double tFront = nFront * grid.getPartition(FRONT_Y).evaluate();
+		nodes(y, 0, nFront, 0.0, grid.getPartition(FRONT_Y).evaluate());
+		nodes(y, nFront, n, tFront, 1.0 / n);
+		nodes(y, nFront + n, nRear, tFront + 1.0, grid.getPartition(REAR_Y).evaluate());
+
+		/*
+		 * diffusivities of the grid cells, relative to the core diffusivity
+		 */
+
+		var k = new double[nx][ny];
+
+		for (int i = 0; i < nx; i++)
+			for (int j = 0; j < ny; j++)
+				k[i][j] = i < n && j >= nFront && j < nFront + n ? 1.0 : kappa;
+
+		final double omega = 2.0 * l / d;
+		initRows(k, omega * omega, omega * Bi3);
+		initColumns(k, Bi1);
+
+		sourceFactor = 0.5 * tau / (0.5 * (y[1] - y[0]));
+
+		// field of view on the rear surface
+
+		final double xInner = fovInner / d;
+		final double xOuter = fovOuter / d;
 
-		// TODO
+		for (firstIndex = 0; firstIndex < nx && x[firstIndex] < xInner; firstIndex++)
+			;
+		for (lastIndex = nx; lastIndex > firstIndex && x[lastIndex] > xOuter; lastIndex--)
+			;
+	}
+
+	private static int shellDensity(Partition p) {
+		return p.getGridMultiplier() > 0 ? p.getDensity() : 0;
+	}
+
+	private static void nodes(double[] coords, int start, int count, double origin, double step) {
+		for (int k = 0; k <= count; k++)
+			coords[start + k] = origin + k * step;
+	}
+
+	/*
+	 * The workspaces are only re-allocated when the grid size has changed.
+	 * Otherwise, the solution is reset to the initial (zero) state.
+	 */
+
+	private void allocate() {
+		if (U != null && U.length == nx + 3 && U[0].length == ny + 3) {
+			for (var u : U)
+				Arrays.fill(u, 0.0);
+			return;
+		}
+
+		U = new double[nx + 3][ny + 3];
+		V = new double[nx + 3][ny + 3];
+
+		x = new double[nx + 1];
+		y = new double[ny + 1];
+
+		laser = new double[nx + 1];
+		noSource = new double[nx + 1];
+
+		/*
+		 * each group of lines is processed with its own array of sweep coefficients
+		 */
+
+		final int max = Math.max(nx, ny);
+		groups = max < ADILinearisedSolver.PARALLEL_THRESHOLD ? 1
+				: Math.min(threadsAvailable(), Math.min(nx, ny) + 1);
+		beta = new double[groups][max + 2];
+	}
+
+	/*
+	 * Face diffusivity averaged over two adjacent cells with weights w1 and w2.
+	 */
+
+	private static double mean(double k1, double w1, double k2, double w2) {
+		return k1 == k2 ? k1 : (k1 * w1 + k2 * w2) / (w1 + w2);
+	}
+
+	/*
+	 * Lines along the radial direction, one for each axial node j. Cylindrical
+	 * control volumes are used.
+	 */
+
+	private void initRows(double[][] k, final double omegaSq, final double sideLoss) {
+		var lines = new ArrayList<Line>();
+		rows = new Line[ny + 1];
+
+		for (int j = 0; j <= ny; j++) {
+			var line = new Line(nx);
+
+			final double wLower = j > 0 ? y[j] - y[j - 1] : 0.0;
+			final double wUpper = j < ny ? y[j + 1] - y[j] : 0.0;
+
+			for (int i = 0; i <= nx; i++) {
+				final double xl = i > 0 ? 0.5 * (x[i - 1] + x[i]) : 0.0;
+				final double xr = i < nx ? 0.5 * (x[i] + x[i + 1]) : x[nx];
+				final double volume = 0.5 * (xr * xr - xl * xl);
+
+				if (i > 0) {
+					final double kf = face(k, i - 1, j, wLower, wUpper);
+					line.a[i] = 0.5 * tau * omegaSq * xl * kf / ((x[i] - x[i - 1]) * volume);
+				}
+
+				if (i < nx) {
+					final double kf = face(k, i, j, wLower, wUpper);
+					line.c[i] = 0.5 * tau * omegaSq * xr * kf / ((x[i + 1] - x[i]) * volume);
+				}
 
+				line.b[i] = 1.0 + line.a[i] + line.c[i];
+
+				// heat losses from the side surface
+
+				if (i == nx)
+					line.b[i] += 0.5 * tau * omegaSq * xr * sideLoss / volume;
+			}
+
+			rows[j] = shared(lines, line);
+		}
+	}
+
+	/*
+	 * Diffusivity at the radial face between nodes i and i + 1 at the axial node j.
+	 */
+
+	private double face(double[][] k, int i, int j, double wLower, double wUpper) {
+		final double kLower = j > 0 ? k[i][j - 1] : k[i][j];
+		final double kUpper = j < ny ? k[i][j] : k[i][j - 1];
+		return mean(kLower, wLower, kUpper, wUpper);
+	}
+
+	/*
+	 * Lines along the axial direction, one for each radial node i.
+	 */
+
+	private void initColumns(double[][] k, final double Bi1) {
+		var lines = new ArrayList<Line>();
+		columns = new Line[nx + 1];
+
+		for (int i = 0; i <= nx; i++) {
+			var line = new Line(ny);
+
+			final double xl = i > 0 ? 0.5 * (x[i - 1] + x[i]) : 0.0;
+			final double xr = i < nx ? 0.5 * (x[i] + x[i + 1]) : x[nx];
+			final double wLeft = 0.5 * (x[i] * x[i] - xl * xl);
+			final double wRight = 0.5 * (xr * xr - x[i] * x[i]);
+
+			for (int j = 0; j <= ny; j++) {
+				final double yl = j > 0 ? 0.5 * (y[j - 1] + y[j]) : 0.0;
+				final double yr = j < ny ? 0.5 * (y[j] + y[j + 1]) : y[ny];
+				final double volume = yr - yl;
+
+				if (j > 0) {
+					final double kf = mean(i > 0 ? k[i - 1][j - 1] : k[i][j - 1], wLeft,
+							i < nx ? k[i][j - 1] : k[i - 1][j - 1], wRight);
+					line.a[j] = 0.5 * tau * kf / ((y[j] - y[j - 1]) * volume);
+				}
+
+				if (j < ny) {
+					final double kf = mean(i > 0 ? k[i - 1][j] : k[i][j], wLeft, i < nx ? k[i][j] : k[i - 1][j],
+							wRight);
+					line.c[j] = 0.5 * tau * kf / ((y[j + 1] - y[j]) * volume);
+				}
+
+				line.b[j] = 1.0 + line.a[j] + line.c[j];
+
+				// heat losses from the front and rear surfaces
+
+				if (j == 0 || j == ny)
+					line.b[j] += 0.5 * tau * Bi1 / volume;
+			}
+
+			columns[i] = shared(lines, line);
+		}
+	}
+
+	/*
+	 * Returns a previously created line with the same coefficients, if present.
+	 * Otherwise, completes the line and adds it to the list.
+	 */
+
+	private static Line shared(List<Line> lines, Line line) {
+		for (var l : lines)
+			if (l.sameAs(line))
+				return l;
+
+		line.eliminate();
+		lines.add(line);
+		return line;
+	}
+
+	@Override
+	public void solve(CoreShellProblem problem) {
+		prepare(problem);
+		runTimeSequence(problem);
 	}
 
 	@Override
 	public DifferenceScheme copy() {
-		// TODO Auto-generated method stub
-		return null;
+		var grid = (LayeredGrid2D) getGrid();
+		return new ADILayeredSolver(grid.getGridDensity(CORE_X), grid.getGridDensity(SIDE_X), grid.getTimeFactor(),
+				getTimeLimit());
 	}
 
 	@Override
@@ -69,22 +371,166 @@ public class ADILayeredSolver extends ADIScheme implements Solver<CoreShellProbl
 		return CoreShellProblem.class;
 	}
 
+	/**
+	 * Averages the temperature over the field of view on the rear surface of the
+	 * shell.
+	 */
+
 	@Override
 	public double signal() {
-		// TODO Auto-generated method stub
-		return 0;
+		double sum = 0;
+
+		for (int i = firstIndex; i <= lastIndex; i++)
+			sum += U[i + 1][ny + 1];
+
+		return sum / (lastIndex - firstIndex + 1);
+	}
+
+	public double pulse(final int m, final int i) {
+		return ((DiscretePulse2D) getDiscretePulse()).evaluateAt((m - EPS) * tau, x[i]);
+	}
+
+	private void updateLaser(final int m) {
+		for (int i = 0; i <= nx; i++)
+			laser[i] = sourceFactor * pulse(m, i);
+	}
+
+	/*
+	 * Runs sweep(group, line) for all lines from 0 to count - 1. Lines are split in
+	 * contiguous groups, which are processed in parallel if there is more than one
+	 * group.
+	 */
+
+	private void forEachLine(final int count, final LineSweep sweep) {
+		if (groups == 1) {
+			for (int k = 0; k < count; k++)
+				sweep.run(0, k);
+		} else
+			IntStream.range(0, groups).parallel().forEach(g -> {
+				for (int k = g * count / groups, end = (g + 1) * count / groups; k < end; k++)
+					sweep.run(g, k);
+			});
 	}
 
 	@Override
 	public void timeStep(int m) {
-		// TODO Auto-generated method stub
-		
+		// first half-step: implicit along the radial direction
+
+		updateLaser(m);
+		forEachLine(ny + 1, this::rowSweep);
+
+		// second half-step: implicit along the axial direction
+
+		updateLaser(m + 1);
+		forEachLine(nx + 1, this::columnSweep);
+	}
+
+	/*
+	 * Solves for V along the axial node j, with the axial part of the operator
+	 * taken explicitly from U.
+	 */
+
+	private void rowSweep(final int group, final int j) {
+		final double[] beta = this.beta[group];
+		final var row = rows[j];
+		final double[] a = row.a;
+		final double[] alpha = row.alpha;
+		final double[] den = row.den;
+		final double[] source = j == 0 ? laser : noSource;
+
+		beta[0] = 0.0;
+
+		for (int i = 0; i <= nx; i++) {
+			final var column = columns[i];
+			final double[] u = U[i + 1];
+			final double r = column.a[j] * u[j] + (2.0 - column.b[j]) * u[j + 1] + column.c[j] * u[j + 2]
+					+ source[i];
+			beta[i + 1] = (a[i] * beta[i] + r) * den[i];
+		}
+
+		V[nx + 1][j + 1] = beta[nx + 1];
+
+		for (int i = nx - 1; i >= 0; i--)
+			V[i + 1][j + 1] = alpha[i + 1] * V[i + 2][j + 1] + beta[i + 1];
+	}
+
+	/*
+	 * Solves for U along the radial node i, with the radial part of the operator
+	 * taken explicitly from V. Overwrites the previous values of U.
+	 */
+
+	private void columnSweep(final int group, final int i) {
+		final double[] beta = this.beta[group];
+		final var column = columns[i];
+		final double[] a = column.a;
+		final double[] alpha = column.alpha;
+		final double[] den = column.den;
+		final double[] u = U[i + 1];
+
+		final double[] vl = V[i];
+		final double[] v = V[i + 1];
+		final double[] vr = V[i + 2];
+
+		beta[0] = 0.0;
+
+		// the laser source only enters the front node
+
+		double source = laser[i];
+
+		for (int j = 0; j <= ny; j++, source = 0.0) {
+			final var row = rows[j];
+			final double r = row.a[i] * vl[j + 1] + (2.0 - row.b[i]) * v[j + 1] + row.c[i] * vr[j + 1] + source;
+			beta[j + 1] = (a[j] * beta[j] + r) * den[j];
+		}
+
+		u[ny + 1] = beta[ny + 1];
+
+		for (int j = ny - 1; j >= 0; j--)
+			u[j + 1] = alpha[j + 1] * u[j + 2] + beta[j + 1];
+	}
+
+	@FunctionalInterface
+	private interface LineSweep {
+		public void run(int group, int line);
 	}
 
 	@Override
 	public void finaliseStep() {
-		// TODO Auto-generated method stub
-		
+		// do nothing
+	}
+
+	/*
+	 * The tridiagonal system -a[k]*u[k-1] + b[k]*u[k] - c[k]*u[k+1] = r[k] for a
+	 * single line, with the forward elimination coefficients calculated in advance.
+	 */
+
+	private static class Line {
+
+		private final double[] a;
+		private final double[] b;
+		private final double[] c;
+		private final double[] alpha;
+		private final double[] den;
+
+		public Line(int n) {
+			a = new double[n + 1];
+			b = new double[n + 1];
+			c = new double[n + 1];
+			alpha = new double[n + 2];
+			den = new double[n + 1];
+		}
+
+		public void eliminate() {
+			for (int k = 0; k < b.length; k++) {
+				den[k] = 1.0 / (b[k] - a[k] * alpha[k]);
+				alpha[k + 1] = c[k] * den[k];
+			}
+		}
+
+		public boolean sameAs(Line line) {
+			return Arrays.equals(a, line.a) && Arrays.equals(b, line.b) && Arrays.equals(c, line.c);
+		}
+
 	}
 
-}
\ No newline at end of file
+}
@@ -1,10 +1,15 @@
 package pulse.problem.schemes.solvers;
 
+import static pulse.ui.Launcher.threadsAvailable;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
 import pulse.problem.laser.DiscretePulse2D;
 import pulse.problem.schemes.ADIScheme;
+import pulse.problem.schemes.BatchTridiagonalMatrixAlgorithm;
 import pulse.problem.schemes.DifferenceScheme;
 import pulse.problem.schemes.Grid2D;
-import pulse.problem.schemes.TridiagonalMatrixAlgorithm;
 import pulse.problem.statements.ClassicalProblem2D;
 import pulse.problem.statements.ExtendedThermalProperties;
 import pulse.problem.statements.Problem;
@@ -13,13 +18,18 @@ import pulse.properties.NumericProperty;
 /**
  * An alternating direction implicit (ADI) solver for a classical
  * two-dimensional linearised problem.
+ * <p>
+ * The workspaces are allocated once and re-used by subsequent solutions on a
+ * grid of the same density. At each half-step, the tridiagonal systems for
+ * different lines are independent and, for grid densities of at least
+ * {@value PARALLEL_THRESHOLD}, are solved in parallel. The radial systems share
+ * the same matrix and are solved together as a batch.
+ * </p>
  *
  */
 
 public class ADILinearisedSolver extends ADIScheme implements Solver<ClassicalProblem2D> {
 
-	private TridiagonalMatrixAlgorithm tridiagonal;
-
 	private int N;
 	private double hx;
 	private double hy;
@@ -32,8 +42,6 @@ public class ADILinearisedSolver extends ADIScheme implements Solver<ClassicalPr
 	private double Bi1;
 	private double Bi3;
 
-	private double[][] U1;
-	private double[][] U2;
 	private double[][] U1_E;
 	private double[][] U2_E;
 
@@ -41,6 +49,13 @@ public class ADILinearisedSolver extends ADIScheme implements Solver<ClassicalPr
 	private double[] b1;
 	private double[] c1;
 
+	private BatchTridiagonalMatrixAlgorithm radial;
+	private double[][] rhs;
+	private double[] alpha2;
+	private double[][] beta;
+	private double[] laser;
+	private int groups;
+
 	private double a2;
 	private double b2;
 	private double c2;
@@ -67,6 +82,12 @@ public class ADILinearisedSolver extends ADIScheme implements Solver<ClassicalPr
 	
 	private final static double EPS = 1e-8;
 
+	/**
+	 * The minimum grid density at which the line sweeps are run in parallel.
+	 */
+
+	public final static int PARALLEL_THRESHOLD = 60;
+
 	public ADILinearisedSolver() {
 		super();
 	}
@@ -83,7 +104,6 @@ public class ADILinearisedSolver extends ADIScheme implements Solver<ClassicalPr
 		super.prepare(problem);
 
 		var grid = getGrid();
-		tridiagonal = new TridiagonalMatrixAlgorithm(grid);
 
 		N = (int) grid.getGridDensity().getValue();
 
@@ -96,25 +116,17 @@ public class ADILinearisedSolver extends ADIScheme implements Solver<ClassicalPr
 
 		var properties = (ExtendedThermalProperties)problem.getProperties();
 		
-		Bi1 = (double) properties.getHeatLoss().getValue();
-		Bi3 = (double) properties.getSideLosses().getValue();
+		Bi1 = properties.heatLoss();
+		Bi3 = properties.sideLosses();
 
-		d = (double) properties.getSampleDiameter().getValue();
-		final double fovOuter = (double) properties.getFOVOuter().getValue();
-		final double fovInner = (double) properties.getFOVInner().getValue();
-		l = (double) properties.getSampleThickness().getValue();
+		d = properties.sampleDiameter();
+		final double fovOuter = properties.fovOuter();
+		final double fovInner = properties.fovInner();
+		l = properties.sampleThickness();
 
 		// end
 
-		U1 = new double[N + 1][N + 1];
-		U2 = new double[N + 1][N + 1];
-
-		U1_E = new double[N + 3][N + 3];
-		U2_E = new double[N + 3][N + 3];
-
-		a1 = new double[N + 1];
-		b1 = new double[N + 1];
-		c1 = new double[N + 1];
+		allocate();
 
 		// a[i]*u[i-1] - b[i]*u[i] + c[i]*u[i+1] = F[i]
 
@@ -127,6 +139,40 @@ public class ADILinearisedSolver extends ADIScheme implements Solver<ClassicalPr
 		initConst();
 	}
 
+	/*
+	 * The workspaces are only re-allocated when the grid density has changed.
+	 * Otherwise, the solution is reset to the initial (zero) state.
+	 */
+
+	private void allocate() {
+		if (U1_E != null && U1_E.length == N + 3) {
+			for (int i = 0; i < N + 3; i++) {
+				Arrays.fill(U1_E[i], 0.0);
+				Arrays.fill(U2_E[i], 0.0);
+			}
+			return;
+		}
+
+		U1_E = new double[N + 3][N + 3];
+		U2_E = new double[N + 3][N + 3];
+
+		a1 = new double[N + 1];
+		b1 = new double[N + 1];
+		c1 = new double[N + 1];
+
+		radial = new BatchTridiagonalMatrixAlgorithm(N, N + 1);
+		rhs = new double[N + 1][N + 1];
+		alpha2 = new double[N + 1];
+		laser = new double[N + 1];
+
+		/*
+		 * each group of lines is processed with its own array of sweep coefficients
+		 */
+
+		groups = N < PARALLEL_THRESHOLD ? 1 : Math.min(threadsAvailable(), N + 1);
+		beta = new double[groups][N + 1];
+	}
+
 	// precalculated FD constants
 	private void initConst() {
 		final double OMEGA = 2.0 * l / d;
@@ -163,6 +209,29 @@ public class ADILinearisedSolver extends ADIScheme implements Solver<ClassicalPr
 		
 		E_C_U2 = 2.0 * hx * OMEGA * Bi3;
 		E_C_U1 = 2.0 * hy * Bi1;
+
+		/*
+		 * the sweep coefficients alpha do not depend on the solution and are
+		 * therefore the same for all lines and time steps
+		 */
+
+		alpha2[1] = _a11;
+
+		for (int i = 1; i < N; i++)
+			alpha2[i + 1] = c2 / (b2 - a2 * alpha2[i]);
+
+		/*
+		 * the first equation in the form accepted by the batch algorithm, including
+		 * the boundary conditions at i = 0 and i = N
+		 */
+
+		radial.setCoefficients(0, 0.0, 1.0, a11);
+
+		for (int i = 1; i < N; i++)
+			radial.setCoefficients(i, a1[i], b1[i], c1[i]);
+
+		radial.setCoefficients(N, 1.0, C1_U2 + HX2 / C2_U2, 0.0);
+		radial.evaluateAlpha();
 	}
 
 	@Override
@@ -182,12 +251,19 @@ public class ADILinearisedSolver extends ADIScheme implements Solver<ClassicalPr
 		return ClassicalProblem2D.class;
 	}
 
+	/**
+	 * The solution is stored with an offset of one node in each direction, i.e.
+	 * the temperature at node ({@code i}, {@code j}) is
+	 * {@code U1_E[i + 1][j + 1]}. The outermost rows and columns hold the edge
+	 * values.
+	 */
+
 	@Override
 	public double signal() {
 		double sum = 0;
 
 		for (int i = firstIndex; i <= lastIndex; i++)
-			sum += U1[i][N];
+			sum += U1_E[i + 1][N + 1];
 
 		return sum / (lastIndex - firstIndex + 1);
 	}
@@ -196,30 +272,20 @@ public class ADILinearisedSolver extends ADIScheme implements Solver<ClassicalPr
 		return ((DiscretePulse2D) getDiscretePulse()).evaluateAt((m - EPS) * tau, i * hx);
 	}
 
+	/*
+	 * Updates the edge values of U1 in place.
+	 */
+
 	private void extendedU1(final int m) {
 		for (int i = 0; i <= N; i++) {
-
-			System.arraycopy(U1[i], 0, U1_E[i + 1], 1, N + 1);
-
-			U1_E[i + 1][0] = U1[i][1] + 2.0 * hy * pulse(m, i) - E_C_U1 * U1[i][0];
-			U1_E[i + 1][N + 2] = U1[i][N - 1] - E_C_U1 * U1[i][N];
-		}
-
-	}
-
-	private void extendedU2() {
-		for (int j = 0; j <= N; j++) {
-
-			for (int i = 0; i <= N; i++) {
-				U2_E[i + 1][j + 1] = U2[i][j];
-			}
-
-			U2_E[N + 2][j + 1] = U2[N - 1][j] - E_C_U2 * U2[N][j];
+			final double[] row = U1_E[i + 1];
+			row[0] = row[2] + 2.0 * hy * pulse(m, i) - E_C_U1 * row[1];
+			row[N + 2] = row[N] - E_C_U1 * row[N + 1];
 		}
 	}
 
 	private double diff2(double[][] U, final int i, final int j) {
-		return (U[i][j + 1] - 2. * U1_E[i][j] + U[i][j - 1]);
+		return (U[i][j + 1] - 2. * U[i][j] + U[i][j - 1]);
 	}
 
 	private double diff2r(double[][] U, final int i, final int j) {
@@ -227,78 +293,128 @@ public class ADILinearisedSolver extends ADIScheme implements Solver<ClassicalPr
 		return U[i + 1][j] * (1.0 + C) - 2. * U[i][j] + (1.0 - C) * U[i - 1][j];
 	}
 
+	/*
+	 * Runs sweep(group, line) for all lines from 0 to N. Lines are split in
+	 * contiguous groups, which are processed in parallel if there is more than one
+	 * group.
+	 */
+
+	private void forEachLine(final LineSweep sweep) {
+		forEachGroup((group, from, to) -> {
+			for (int k = from; k < to; k++)
+				sweep.run(group, k);
+		});
+	}
+
+	private void forEachGroup(final GroupSweep sweep) {
+		if (groups == 1)
+			sweep.run(0, 0, N + 1);
+		else
+			IntStream.range(0, groups).parallel()
+					.forEach(g -> sweep.run(g, g * (N + 1) / groups, (g + 1) * (N + 1) / groups));
+	}
+
 	@Override
 	public void timeStep(int m) {
-		var alpha = tridiagonal.getAlpha();
-		var beta = tridiagonal.getBeta();
 
-		/* create extended U1 array to accommodate edge values */
+		/* update the edge values of U1 */
 
 		extendedU1(m);
 
 		// first equation, i -> x (radius), j -> y (thickness)
 
-		tridiagonal.setAlpha(1, a11);
+		forEachGroup(this::firstEquation);
 
-		for (int j = 0; j <= N; j++) {
+		// second equation
 
-			tridiagonal.setBeta(1, b11 * (2. * U1_E[1][j + 1] / tau + diff2(U1_E, 1, j + 1) / HY2));
+		for (int i = 1; i <= N; i++)
+			laser[i] = pulse(m + 1, i);
 
-			for (int i = 1; i < N; i++) {
-				final double F = -2. * U1_E[i + 1][j + 1] / tau - diff2(U1_E, i + 1, j + 1) / HY2;
-				final double denominator = b1[i] - a1[i] * alpha[i];
-				tridiagonal.setAlpha(i + 1, c1[i] / denominator);
-				tridiagonal.setBeta(i + 1, (a1[i] * beta[i] - F) / denominator);
-			}
+		laser[0] = pulse(m + 1);
 
-			U2[N][j] = (C2_U2 * beta[N] + HX2 * U1_E[N + 1][j + 1] + C3_U2 * diff2(U1_E, N + 1, j + 1))
-					/ ((C1_U2 - alpha[N]) * C2_U2 + HX2);
+		forEachLine(this::secondEquation);
+	}
 
-			for (int i = N - 1; i >= 0; i--) {
-				U2[i][j] = alpha[i + 1] * U2[i + 1][j] + beta[i + 1];
-			}
+	/*
+	 * Solves the first equation along columns from j0 (inclusive) to j1
+	 * (exclusive). Writes the result in U2, including the edge values at i = N + 1.
+	 */
 
+	private void firstEquation(final int group, final int j0, final int j1) {
+		final double[] first = rhs[0];
+
+		for (int j = j0; j < j1; j++)
+			first[j] = -b11 * (2. * U1_E[1][j + 1] / tau + diff2(U1_E, 1, j + 1) / HY2);
+
+		for (int i = 1; i < N; i++) {
+			final double[] f = rhs[i];
+			final double[] u = U1_E[i + 1];
+
+			for (int j = j0; j < j1; j++)
+				f[j] = -2. * u[j + 1] / tau - (u[j + 2] - 2. * u[j + 1] + u[j]) / HY2;
 		}
 
-		// second equation
+		final double[] last = rhs[N];
 
-		/* create extended U2 array to accommodate edge values */
+		for (int j = j0; j < j1; j++)
+			last[j] = -(HX2 * U1_E[N + 1][j + 1] + C3_U2 * diff2(U1_E, N + 1, j + 1)) / C2_U2;
 
-		extendedU2();
-		tridiagonal.setAlpha(1, _a11);
+		radial.solve(rhs, U2_E, 1, j0, j1);
 
-		for (int i = 1; i <= N; i++) {
+		for (int j = j0; j < j1; j++)
+			U2_E[N + 2][j + 1] = U2_E[N][j + 1] - E_C_U2 * U2_E[N + 1][j + 1];
+	}
 
-			tridiagonal.setBeta(1,
-					(TAU_HY * pulse(m + 1, i) + HY2 * U2_E[i + 1][1]) * _b11 + _b12 * diff2r(U2_E, i + 1, 1));
+	/*
+	 * Solves the second equation along row i, overwriting the previous values of
+	 * U1.
+	 */
+
+	private void secondEquation(final int group, final int i) {
+		final double[] beta = this.beta[group];
+		final double[] alpha = alpha2;
+		final double[] row = U1_E[i + 1];
+
+		if (i > 0) {
+
+			beta[1] = (TAU_HY * laser[i] + HY2 * U2_E[i + 1][1]) * _b11 + _b12 * diff2r(U2_E, i + 1, 1);
 
 			for (int j = 1; j < N; j++) {
 				final double F = -2. / tau * U2_E[i + 1][j + 1] - OMEGA_SQ_HX2 * diff2r(U2_E, i + 1, j + 1);
-				final double denominator = b2 - a2 * alpha[j];
-				tridiagonal.setAlpha(j + 1, c2 / denominator);
-				tridiagonal.setBeta(j + 1, (a2 * beta[j] - F) / denominator);
+				beta[j + 1] = (a2 * beta[j] - F) / (b2 - a2 * alpha[j]);
 			}
 
-			U1[i][N] = (tau * beta[N] + HY2 * U2_E[i + 1][N + 1] + _c11 * diff2r(U2_E, i + 1, N +1) )
+			row[N + 1] = (tau * beta[N] + HY2 * U2_E[i + 1][N + 1] + _c11 * diff2r(U2_E, i + 1, N + 1))
 					/ ((C1_U1 - alpha[N]) * tau + HY2);
 
-			tridiagonal.sweep(U1[i]);
+		} else {
 
-		}
+			// i = 0 boundary
 
-		// i = 0 boundary
-		tridiagonal.setBeta(1,
-				(TAU_HY * pulse(m + 1) + HY2 * U2_E[1][1]) * _b11 + 2.0 * _b12 * (U2_E[2][1] - U2_E[1][1]));
+			beta[1] = (TAU_HY * laser[0] + HY2 * U2_E[1][1]) * _b11 + 2.0 * _b12 * (U2_E[2][1] - U2_E[1][1]);
+
+			for (int j = 1; j < N; j++) {
+				final double F = -2. / tau * U2_E[1][j + 1] - 2.0 * OMEGA_SQ_HX2 * (U2_E[2][j + 1] - U2_E[1][j + 1]);
+				beta[j + 1] = (F - a2 * beta[j]) / (a2 * alpha[j] - b2);
+			}
+
+			row[N + 1] = (tau * beta[N] + HY2 * U2_E[1][N + 1] + 2.0 * _c11 * (U2_E[2][N + 1] - U2_E[1][N + 1]))
+					/ ((C1_U1 - alpha[N]) * tau + HY2);
 
-		for (int j = 1; j < N; j++) {
-			final double F = -2. / tau * U2_E[1][j + 1] - 2.0 * OMEGA_SQ_HX2 * (U2_E[2][j + 1] - U2_E[1][j + 1]);
-			tridiagonal.setBeta(j + 1, (F - a2 * beta[j]) / (a2 * alpha[j] - b2));
 		}
 
-		U1[0][N] = (tau * beta[N] + HY2 * U2_E[1][N + 1] + 2.0 * _c11 * (U2_E[2][N + 1] - U2_E[1][N + 1]))
-				/ ((C1_U1 - alpha[N]) * tau + HY2);
+		for (int j = N - 1; j >= 0; j--)
+			row[j + 1] = alpha[j + 1] * row[j + 2] + beta[j + 1];
+	}
+
+	@FunctionalInterface
+	private interface LineSweep {
+		public void run(int group, int line);
+	}
 
-		tridiagonal.sweep(U1[0]);
+	@FunctionalInterface
+	private interface GroupSweep {
+		public void run(int group, int from, int to);
 	}
 
 	@Override
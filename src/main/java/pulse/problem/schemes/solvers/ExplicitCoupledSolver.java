@@ -60,12 +60,12 @@ public class ExplicitCoupledSolver extends ExplicitScheme implements Solver<Part
 		hx = grid.getXStep();
 
 		var p = (ThermoOpticalProperties) problem.getProperties();
-		double Bi = (double) p.getHeatLoss().getValue();
+		double Bi = p.heatLoss();
 
 		a = 1. / (1. + Bi * hx);
 
-		final double opticalThickness = (double) p.getOpticalThickness().getValue();
-		final double Np = (double) p.getPlanckNumber().getValue();
+		final double opticalThickness = p.opticalThickness();
+		final double Np = p.planckNumber();
 		final double tau = getGrid().getTimeStep();
 		
 		HX_NP = hx / Np;
@@ -71,7 +71,7 @@ public class ExplicitLinearisedSolver extends ExplicitScheme implements Solver<C
 		N = (int) getGrid().getGridDensity().getValue();
 		hx = getGrid().getXStep();
 
-		final double Bi1 = (double) problem.getProperties().getHeatLoss().getValue();
+		final double Bi1 = problem.getProperties().heatLoss();
 		a = 1. / (1. + Bi1 * hx);
 	}
 
@@ -57,12 +57,12 @@ public class ExplicitNonlinearSolver extends ExplicitScheme implements Solver<No
 		final double tau = grid.getTimeStep();
 
 		var p = problem.getProperties();
-		final double T = (double) p.getTestTemperature().getValue();
+		final double T = p.testTemperature();
 		final double dT = p.maximumHeating((Pulse2D)problem.getPulse());
 		
 		a00 = 2 * tau / (hx * hx + 2 * tau);
 		a11 = hx * hx / (2.0 * tau);
-		final double Bi1 = (double) p.getHeatLoss().getValue();
+		final double Bi1 = p.heatLoss();
 		f01 = 0.25 * Bi1 * T / dT;
 		fN1 = 0.25 * Bi1 * T / dT;
 		
@@ -54,9 +54,9 @@ public class ImplicitCoupledSolver extends CoupledImplicitScheme implements Solv
 		final double tau = grid.getTimeStep();
 
 		var p = (ThermoOpticalProperties)problem.getProperties();
-		final double Bi1 = (double) p.getHeatLoss().getValue();
-		final double Np = (double) p.getPlanckNumber().getValue();
-		final double tau0 = (double) p.getOpticalThickness().getValue();
+		final double Bi1 = p.heatLoss();
+		final double Np = p.planckNumber();
+		final double tau0 = p.opticalThickness();
 
 		final double TAU0_NP = tau0 / Np;
 		HX2_2TAU = HH / (2.0 * tau);
@@ -79,7 +79,7 @@ public class ImplicitLinearisedSolver extends ImplicitScheme implements Solver<C
 		final double hx = grid.getXStep();
 		tau = grid.getTimeStep();
 
-		final double Bi1 = (double) problem.getProperties().getHeatLoss().getValue();
+		final double Bi1 = problem.getProperties().heatLoss();
 
 		Bi1HTAU = Bi1 * hx * tau;
 		
@@ -62,9 +62,9 @@ public class ImplicitNonlinearSolver extends ImplicitScheme implements Solver<No
 		
 		var p = problem.getProperties();
 		
-		final double Bi1 = (double) p.getHeatLoss().getValue();
+		final double Bi1 = p.heatLoss();
 
-		final double T = (double) p.getTestTemperature().getValue();
+		final double T = p.testTemperature();
 		final double dT = p.maximumHeating((Pulse2D)problem.getPulse());
 		dT_T = dT/T;
 
@@ -77,7 +77,7 @@ public class MixedCoupledSolver extends CoupledImplicitScheme implements Solver<
 		hx = grid.getXStep();
 		tau = grid.getTimeStep();
 
-		Bi1 = (double) problem.getProperties().getHeatLoss().getValue();
+		Bi1 = problem.getProperties().heatLoss();
 
 		fluxes = rte.getFluxes();
 
@@ -114,8 +114,8 @@ public class MixedCoupledSolver extends CoupledImplicitScheme implements Solver<
 
 	private void initConst(ParticipatingMedium problem) {
 		var p = (ThermoOpticalProperties)problem.getProperties();
-		final double Np = (double) p.getPlanckNumber().getValue();
-		final double opticalThickness = (double) p.getOpticalThickness().getValue();
+		final double Np = p.planckNumber();
+		final double opticalThickness = p.opticalThickness();
 
 		HX2 = hx * hx;
 		adjustSchemeWeight();
@@ -80,7 +80,7 @@ public class MixedLinearisedSolver extends MixedScheme implements Solver<Classic
 		final double hx = grid.getXStep();
 		final double tau = grid.getTimeStep();
 
-		final double Bi1 = (double) problem.getProperties().getHeatLoss().getValue();
+		final double Bi1 = problem.getProperties().heatLoss();
 
 		// precalculated constants
 
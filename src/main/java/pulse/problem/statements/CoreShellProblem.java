@@ -22,7 +22,7 @@ public class CoreShellProblem extends ClassicalProblem2D {
 	private double tA;
 	private double tR;
 	private double coatingDiffusivity;
-	private final static boolean DEBUG = true;
+	private final static boolean DEBUG = false;
 
 	public CoreShellProblem() {
 		super();
@@ -44,7 +44,7 @@ public class CoreShellProblem extends ClassicalProblem2D {
 		super(csp);
 		tA = (double) csp.getCoatingAxialThickness().getValue();
 		tR = (double) csp.getCoatingRadialThickness().getValue();
-		coatingDiffusivity = (double) csp.getProperties().getDiffusivity().getValue();
+		coatingDiffusivity = csp.coatingDiffusivity;
 		setComplexity(ProblemComplexity.HIGH);
 	}
 
@@ -145,10 +145,17 @@ public class CoreShellProblem extends ClassicalProblem2D {
 
 	}
 
+	/*
+	 * The coating diffusivity is scaled by the coating thicknesses, so it is
+	 * assigned after them regardless of its position in params.
+	 */
+
 	@Override
 	public void assign(IndexedVector params) {
 		super.assign(params);
 
+		int diffusivityIndex = -1;
+
 		for (int i = 0, size = params.dimension(); i < size; i++) {
 			switch (params.getIndex(i)) {
 			case AXIAL_COATING_THICKNESS:
@@ -157,15 +164,18 @@ public class CoreShellProblem extends ClassicalProblem2D {
 				break;
 			case RADIAL_COATING_THICKNESS:
 				final double d = (double)((ExtendedThermalProperties)getProperties()).getSampleDiameter().getValue();
-				tR = params.get(i) / (d / 2.0);
+				tR = params.get(i) * d / 2.0;
 				break;
 			case COATING_DIFFUSIVITY:
-				coatingDiffusivity = params.get(i) * pow(tA + 2.0 * tR, 2);
+				diffusivityIndex = i;
 				break;
 			default:
 				continue;
 			}
 		}
+
+		if (diffusivityIndex > -1)
+			coatingDiffusivity = params.get(diffusivityIndex) * pow(tA + 2.0 * tR, -2);
 	}
 
 }
\ No newline at end of file
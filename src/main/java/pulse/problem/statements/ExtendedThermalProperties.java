@@ -68,6 +68,10 @@ public class ExtendedThermalProperties extends ThermalProperties {
 		return derive(DIAMETER, d);
 	}
 
+	public double sampleDiameter() {
+		return d;
+	}
+
 	public void setSampleDiameter(NumericProperty d) {
 		requireType(d, DIAMETER);
 		this.d = (double) d.getValue();
@@ -78,6 +82,10 @@ public class ExtendedThermalProperties extends ThermalProperties {
 		return derive(HEAT_LOSS_SIDE, Bi3);
 	}
 
+	public double sideLosses() {
+		return Bi3;
+	}
+
 	public void setSideLosses(NumericProperty bi3) {
 		requireType(bi3, HEAT_LOSS_SIDE);
 		this.Bi3 = (double) bi3.getValue();
@@ -88,6 +96,10 @@ public class ExtendedThermalProperties extends ThermalProperties {
 		return derive(FOV_OUTER, fovOuter);
 	}
 
+	public double fovOuter() {
+		return fovOuter;
+	}
+
 	public void setFOVOuter(NumericProperty fovOuter) {
 		requireType(fovOuter, FOV_OUTER);
 		this.fovOuter = (double) fovOuter.getValue();
@@ -98,6 +110,10 @@ public class ExtendedThermalProperties extends ThermalProperties {
 		return derive(FOV_INNER, fovInner);
 	}
 
+	public double fovInner() {
+		return fovInner;
+	}
+
 	public void setFOVInner(NumericProperty fovInner) {
 		requireType(fovInner, FOV_INNER);
 		this.fovInner = (double) fovInner.getValue();
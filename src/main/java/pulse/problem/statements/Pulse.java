@@ -93,6 +93,10 @@ public class Pulse extends PropertyHolder {
 		return derive(LASER_ENERGY, laserEnergy);
 	}
 
+	public double laserEnergy() {
+		return laserEnergy;
+	}
+
 	public void setLaserEnergy(NumericProperty laserEnergy) {
 		requireType(laserEnergy, LASER_ENERGY);
 		this.laserEnergy = (double) laserEnergy.getValue();
@@ -41,6 +41,10 @@ public class Pulse2D extends Pulse {
 		return derive(SPOT_DIAMETER, spotDiameter);
 	}
 
+	public double spotDiameter() {
+		return spotDiameter;
+	}
+
 	public void setSpotDiameter(NumericProperty spotDiameter) {
 		requireType(spotDiameter, SPOT_DIAMETER);
 		this.spotDiameter = (double) spotDiameter.getValue();
@@ -26,6 +26,16 @@ import pulse.properties.NumericPropertyKeyword;
 import pulse.properties.Property;
 import pulse.util.PropertyHolder;
 
+/**
+ * The thermo-physical properties of a sample. Each property is accessible both
+ * as a {@code NumericProperty}, which is created on request by the getter
+ * method, and as a primitive value returned by the method named after the
+ * property (e.g. {@code getDiffusivity()} and {@code diffusivity()}). Since
+ * both are backed by the same field, they are always consistent. The latter
+ * should be preferred in performance-critical code, such as the solvers.
+ *
+ */
+
 public class ThermalProperties extends PropertyHolder {
 
 	private double a;
@@ -122,6 +132,10 @@ public class ThermalProperties extends PropertyHolder {
 		return derive(DIFFUSIVITY, a);
 	}
 
+	public double diffusivity() {
+		return a;
+	}
+
 	public void setDiffusivity(NumericProperty a) {
 		requireType(a, DIFFUSIVITY);
 		this.a = (double) a.getValue();
@@ -132,6 +146,10 @@ public class ThermalProperties extends PropertyHolder {
 		return derive(MAXTEMP, signalHeight);
 	}
 
+	public double maximumTemperature() {
+		return signalHeight;
+	}
+
 	public void setMaximumTemperature(NumericProperty maxTemp) {
 		requireType(maxTemp, MAXTEMP);
 		this.signalHeight = (double) maxTemp.getValue();
@@ -142,6 +160,10 @@ public class ThermalProperties extends PropertyHolder {
 		return derive(THICKNESS, l);
 	}
 
+	public double sampleThickness() {
+		return l;
+	}
+
 	public void setSampleThickness(NumericProperty l) {
 		requireType(l, THICKNESS);
 		this.l = (double) l.getValue();
@@ -163,10 +185,18 @@ public class ThermalProperties extends PropertyHolder {
 		return derive(HEAT_LOSS, Bi);
 	}
 
+	public double heatLoss() {
+		return Bi;
+	}
+
 	public NumericProperty getSpecificHeat() {
 		return derive(SPECIFIC_HEAT, cP);
 	}
 
+	public double specificHeat() {
+		return cP;
+	}
+
 	public void setSpecificHeat(NumericProperty cP) {
 		requireType(cP, SPECIFIC_HEAT);
 		this.cP = (double) cP.getValue();
@@ -176,6 +206,10 @@ public class ThermalProperties extends PropertyHolder {
 		return derive(DENSITY, rho);
 	}
 
+	public double density() {
+		return rho;
+	}
+
 	public void setDensity(NumericProperty p) {
 		requireType(p, DENSITY);
 		this.rho = (double) (p.getValue());
@@ -185,6 +219,10 @@ public class ThermalProperties extends PropertyHolder {
 		return derive(TEST_TEMPERATURE, T);
 	}
 
+	public double testTemperature() {
+		return T;
+	}
+
 	public void setTestTemperature(NumericProperty T) {
 		requireType(T, TEST_TEMPERATURE);
 		this.T = (double) T.getValue();
@@ -275,8 +313,8 @@ public class ThermalProperties extends PropertyHolder {
 	}
 
 	public double maximumHeating(Pulse2D pulse) {
-		final double Q = (double) pulse.getLaserEnergy().getValue();
-		final double dLas = (double) pulse.getSpotDiameter().getValue();
+		final double Q = pulse.laserEnergy();
+		final double dLas = pulse.spotDiameter();
 		return 4.0 * emissivity * Q / (PI * dLas * dLas * l * cP * rho);
 	}
 
@@ -86,15 +86,17 @@ public class ThermoOpticalProperties extends ThermalProperties {
 	}
 
 	public double maxNp() {
-		final double l = (double) getSampleThickness().getValue();
-		final double T = (double) getTestTemperature().getValue();
-		return thermalConductivity() / (4.0 * STEFAN_BOTLZMAN * fastPowLoop(T, 3) * l);
+		return thermalConductivity() / (4.0 * STEFAN_BOTLZMAN * fastPowLoop(testTemperature(), 3) * sampleThickness());
 	}
 	
 	public NumericProperty getOpticalThickness() {
 		return derive(OPTICAL_THICKNESS, opticalThickness);
 	}
 
+	public double opticalThickness() {
+		return opticalThickness;
+	}
+
 	public void setOpticalThickness(NumericProperty tau0) {
 		requireType(tau0, OPTICAL_THICKNESS);
 		this.opticalThickness = (double) tau0.getValue();
@@ -105,6 +107,10 @@ public class ThermoOpticalProperties extends ThermalProperties {
 		return derive(PLANCK_NUMBER, planckNumber);
 	}
 
+	public double planckNumber() {
+		return planckNumber;
+	}
+
 	public void setPlanckNumber(NumericProperty planckNumber) {
 		requireType(planckNumber, PLANCK_NUMBER);
 		this.planckNumber = (double) planckNumber.getValue();
@@ -115,6 +121,10 @@ public class ThermoOpticalProperties extends ThermalProperties {
 		return derive(SCATTERING_ANISOTROPY, scatteringAnisotropy);
 	}
 
+	public double scatteringAnisotropy() {
+		return scatteringAnisotropy;
+	}
+
 	public void setScatteringAnisotropy(NumericProperty A1) {
 		requireType(A1, SCATTERING_ANISOTROPY);
 		this.scatteringAnisotropy = (double) A1.getValue();
@@ -125,6 +135,10 @@ public class ThermoOpticalProperties extends ThermalProperties {
 		return derive(SCATTERING_ALBEDO, scatteringAlbedo);
 	}
 
+	public double scatteringAlbedo() {
+		return scatteringAlbedo;
+	}
+
 	public void setScatteringAlbedo(NumericProperty omega0) {
 		requireType(omega0, SCATTERING_ALBEDO);
 		this.scatteringAlbedo = (double) omega0.getValue();
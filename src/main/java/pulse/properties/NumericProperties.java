@@ -2,7 +2,9 @@ package pulse.properties;
 
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import pulse.io.export.XMLConverter;
 import pulse.ui.Messages;
@@ -21,6 +23,14 @@ public class NumericProperties {
 
 	private final static List<NumericProperty> DEFAULT = XMLConverter.readDefaultXML();
 
+	/**
+	 * The default properties indexed by their types. This is built once after the
+	 * default list has been loaded, so that look-ups do not require scanning the
+	 * list.
+	 */
+
+	private final static Map<NumericPropertyKeyword, NumericProperty> INDEX = index(DEFAULT);
+
 	private NumericProperties() {
 		//empty constructor
 	}
@@ -89,6 +99,38 @@ public class NumericProperties {
 		return DEFAULT;
 	}
 
+	private static Map<NumericPropertyKeyword, NumericProperty> index(List<NumericProperty> list) {
+		var map = new EnumMap<NumericPropertyKeyword, NumericProperty>(NumericPropertyKeyword.class);
+
+		for (var p : list)
+			map.putIfAbsent(p.getType(), p); // the first occurrence in the list takes precedence
+
+		return map;
+	}
+
+	/**
+	 * Retrieves the default {@code NumericProperty} corresponding to
+	 * {@code keyword} without copying it. The returned object is shared and should
+	 * never be modified: this method is intended for read-only access to the
+	 * default descriptors, abbreviations and domains, which is faster than using
+	 * {@code def(keyword)}.
+	 * 
+	 * @param keyword one of the constant {@code NumericPropertyKeyword}s
+	 * @return the shared instance of the default {@code NumericProperty}
+	 * @throws IllegalArgumentException if no default is defined for
+	 *                                  {@code keyword}
+	 * @see def(NumericPropertyKeyword)
+	 */
+
+	public static NumericProperty pattern(NumericPropertyKeyword keyword) {
+		var p = INDEX.get(keyword);
+
+		if (p == null)
+			throw new IllegalArgumentException("No default property found for " + keyword);
+
+		return p;
+	}
+
 	/**
 	 * Searches for the default {@code NumericProperty} corresponding to
 	 * {@code keyword} in the list of pre-defined properties loaded from the
@@ -100,7 +142,7 @@ public class NumericProperties {
 	 */
 
 	public static NumericProperty def(NumericPropertyKeyword keyword) {
-		return new NumericProperty(DEFAULT.stream().filter(p -> p.getType() == keyword).findFirst().get());
+		return new NumericProperty(pattern(keyword));
 	}
 
 	/**
@@ -136,7 +178,7 @@ public class NumericProperties {
 	 */
 
 	public static NumericProperty derive(NumericPropertyKeyword keyword, Number value) {
-		return new NumericProperty(value, DEFAULT.stream().filter(p -> p.getType() == keyword).findFirst().get());
+		return new NumericProperty(value, pattern(keyword));
 	}
 
 	/**
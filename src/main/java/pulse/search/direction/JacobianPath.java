@@ -0,0 +1,196 @@
+package pulse.search.direction;
+
+import static pulse.search.direction.PathOptimiser.getInstance;
+
+import java.util.List;
+
+import pulse.math.linear.Vector;
+import pulse.tasks.SearchTask;
+
+/**
+ * <p>
+ * A version of {@code Path} used by the {@code LevenbergMarquardtOptimiser}.
+ * In addition to other variables, it stores the vector of residuals at the
+ * current step, the Jacobian matrix of these residuals with respect to the
+ * search parameters, the damping parameter and the current value of the target
+ * function. Note the {@code reset} method is overriden.
+ * </p>
+ * <p>
+ * The residuals are always evaluated at the same time points, which are fixed
+ * when this {@code Path} is reset. This ensures that the residual vectors
+ * calculated with different parameters are compatible, even if the number of
+ * points within the calculation range changes.
+ * </p>
+ *
+ */
+
+public class JacobianPath extends Path {
+
+	private double[] times;
+	private Vector residuals;
+	private double[][] jacobian;
+	private double damping;
+	private double cost;
+	private int updates;
+
+	protected JacobianPath(SearchTask task) {
+		super(task);
+	}
+
+	/**
+	 * Fixes the time points of the residuals using the current residuals of
+	 * {@code task}, calculates the Jacobian matrix and the gradient, and resets the
+	 * damping parameter to its initial value.
+	 * <p>
+	 * Note this assumes the problem has been solved with the current parameters
+	 * of {@code task}.
+	 * </p>
+	 */
+
+	@Override
+	public void reset(SearchTask task) {
+		var rs = task.getResidualStatistic();
+		var list = rs.getResiduals();
+
+		times = list.stream().mapToDouble(r -> r[0]).toArray();
+		residuals = residualVector(list);
+		cost = (double) rs.getStatistic().getValue();
+		damping = LevenbergMarquardtOptimiser.INITIAL_DAMPING;
+
+		var optimiser = (LevenbergMarquardtOptimiser) getInstance();
+		setJacobian(optimiser.jacobian(task, this));
+		setDirection(optimiser.direction(this));
+	}
+
+	/**
+	 * Maps {@code list}, which contains {@code [time, residual]} pairs sorted by
+	 * time, onto the time points of this {@code Path}. Residuals at time points
+	 * not found in {@code list} are set to zero.
+	 *
+	 * @param list a list of residuals calculated by a {@code ResidualStatistic}
+	 * @return a {@code Vector} of residuals with the dimension equal to the number
+	 *         of time points
+	 */
+
+	public Vector residualVector(List<double[]> list) {
+		var v = new Vector(times.length);
+
+		for (int i = 0, j = 0; i < times.length; i++) {
+
+			for (; j < list.size() && list.get(j)[0] < times[i]; j++)
+				;
+
+			if (j < list.size() && list.get(j)[0] == times[i])
+				v.set(i, list.get(j)[1]);
+
+		}
+
+		return v;
+	}
+
+	/**
+	 * Calculates the product of the transposed Jacobian with the residual vector.
+	 *
+	 * @return the <math><i>J</i><sup>T</sup><i>r</i></math> vector
+	 */
+
+	public Vector projectedResiduals() {
+		final int n = jacobian[0].length;
+		var result = new Vector(n);
+
+		for (int i = 0; i < n; i++) {
+			double sum = 0;
+			for (int k = 0; k < times.length; k++)
+				sum += jacobian[k][i] * residuals.get(k);
+			result.set(i, sum);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Applies the Broyden rank-one update to the Jacobian matrix after a step
+	 * {@code dx} has changed the residuals to {@code newResiduals}, and replaces
+	 * the stored residuals.
+	 *
+	 * @param dx           the accepted step
+	 * @param newResiduals the residuals at the end of the step
+	 */
+
+	public void update(Vector dx, Vector newResiduals) {
+		final int n = dx.dimension();
+		final double norm = dx.lengthSq();
+
+		for (int k = 0; k < times.length; k++) {
+			double predicted = 0;
+
+			for (int i = 0; i < n; i++)
+				predicted += jacobian[k][i] * dx.get(i);
+
+			final double f = (newResiduals.get(k) - residuals.get(k) - predicted) / norm;
+
+			for (int i = 0; i < n; i++)
+				jacobian[k][i] += f * dx.get(i);
+		}
+
+		residuals = newResiduals;
+		updates++;
+		setGradient(projectedResiduals().multiply(2.0));
+	}
+
+	public double[] getTimes() {
+		return times;
+	}
+
+	public Vector getResiduals() {
+		return residuals;
+	}
+
+	public void setResiduals(Vector residuals) {
+		this.residuals = residuals;
+	}
+
+	public double[][] getJacobian() {
+		return jacobian;
+	}
+
+	/**
+	 * Sets the Jacobian matrix, which is assumed to be calculated exactly (i.e. not
+	 * with the Broyden formula), and recalculates the gradient of the target
+	 * function.
+	 *
+	 * @param jacobian the Jacobian matrix of the residuals
+	 */
+
+	public void setJacobian(double[][] jacobian) {
+		this.jacobian = jacobian;
+		this.updates = 0;
+		setGradient(projectedResiduals().multiply(2.0));
+	}
+
+	/**
+	 * @return the number of Broyden updates since the Jacobian was last
+	 *         calculated exactly
+	 */
+
+	public int getUpdates() {
+		return updates;
+	}
+
+	public double getDamping() {
+		return damping;
+	}
+
+	public void setDamping(double damping) {
+		this.damping = damping;
+	}
+
+	public double getCost() {
+		return cost;
+	}
+
+	public void setCost(double cost) {
+		this.cost = cost;
+	}
+
+}
@@ -0,0 +1,257 @@
+package pulse.search.direction;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static pulse.properties.NumericProperties.compare;
+import static pulse.search.linear.LinearOptimiser.domain;
+
+import pulse.math.IndexedVector;
+import pulse.math.linear.LUDecomposition;
+import pulse.math.linear.Vector;
+import pulse.problem.schemes.solvers.SolverException;
+import pulse.tasks.SearchTask;
+import pulse.tasks.logs.Status;
+import pulse.ui.Messages;
+
+/**
+ * A {@code PathOptimiser} implementing the Levenberg-Marquardt (damped
+ * Gauss-Newton) method.
+ * <p>
+ * Unlike the other optimisers, this method exploits the least-squares
+ * structure of the target function. The Jacobian matrix <math><i>J</i></math>
+ * of the residual vector <math><i>r</i></math> with respect to the search
+ * parameters is used to calculate the step <math>&delta;</math> from the linear
+ * system <math>(<i>J</i><sup>T</sup><i>J</i> + &lambda;
+ * diag(<i>J</i><sup>T</sup><i>J</i>))&delta; =
+ * &minus;<i>J</i><sup>T</sup><i>r</i></math>. The damping parameter
+ * <math>&lambda;</math> is decreased after each successful step and increased
+ * whenever the step fails to reduce the target function, which replaces the
+ * linear search. A rejected step is re-tried with the same Jacobian, so that
+ * the only additional cost is a single solution of the problem.
+ * </p>
+ * <p>
+ * The Jacobian is calculated with central differences (concurrently, whenever
+ * possible). After a successful step it is updated with the Broyden rank-one
+ * formula, which does not require any additional solutions. An exact Jacobian
+ * is recalculated after a number of updates equal to the number of search
+ * parameters, or whenever a step based on the updated Jacobian is rejected.
+ * </p>
+ *
+ * @see <a href=
+ *      "https://en.wikipedia.org/wiki/Levenberg%E2%80%93Marquardt_algorithm">Wikipedia
+ *      page</a>
+ */
+
+public class LevenbergMarquardtOptimiser extends PathOptimiser {
+
+	private static LevenbergMarquardtOptimiser instance = new LevenbergMarquardtOptimiser();
+
+	protected final static double INITIAL_DAMPING = 1E-2;
+	private final static double MIN_DAMPING = 1E-10;
+	private final static double MAX_DAMPING = 1E10;
+	private final static double DAMPING_FACTOR = 10.0;
+
+	private LevenbergMarquardtOptimiser() {
+		super();
+	}
+
+	/**
+	 * <p>
+	 * Performs a single Levenberg-Marquardt iteration. The damped step is
+	 * calculated using the Jacobian stored in the {@code JacobianPath} of the
+	 * {@code task}. If the step, limited by the search bounds, reduces the target
+	 * function, it is accepted and the damping parameter is decreased. Otherwise,
+	 * the parameters are restored and the step is re-calculated either with an
+	 * exact Jacobian (if the previous one had been updated with the Broyden
+	 * formula) or with a higher damping. If the damping exceeds its upper limit,
+	 * the parameters are left unchanged.
+	 * </p>
+	 *
+	 * @param task a {@code SearchTask} that needs to be driven to a minimum of SSR.
+	 * @return the SSR value with the newly found parameters.
+	 * @throws SolverException
+	 */
+
+	@Override
+	public double iteration(SearchTask task) throws SolverException {
+		var p = (JacobianPath) task.getPath();
+
+		if (compare(p.getIteration(), getMaxIterations()) > 0)
+			task.setStatus(Status.TIMEOUT);
+
+		var vectors = task.searchVector();
+		var parameters = vectors[0]; // get current search vector
+		var bounds = vectors[1];
+
+		boolean accepted = false;
+
+		while (!accepted) {
+
+			var dir = direction(p);
+			final double step = min(1.0, domain(parameters, bounds, dir).getMaximum());
+			var dx = dir.multiply(step);
+
+			task.assign(new IndexedVector(parameters.sum(dx), parameters.getIndices()));
+			final double cost = task.solveProblemAndCalculateDeviation();
+
+			if (task.getStatus() != Status.FAILED && cost < p.getCost()) {
+				accepted = true;
+				p.setLinearStep(step);
+				p.setCost(cost);
+				p.setDamping(max(p.getDamping() / DAMPING_FACTOR, MIN_DAMPING));
+				p.update(dx, p.residualVector(task.getResidualStatistic().getResiduals()));
+
+				if (p.getUpdates() >= parameters.dimension()) {
+					endOfStep(task);
+
+					/*
+					 * the sequential calculation of the Jacobian leaves the solution of the task
+					 * in a perturbed state
+					 */
+
+					if (!p.getResiduals().equals(p.residualVector(task.getResidualStatistic().getResiduals())))
+						task.solveProblemAndCalculateDeviation();
+				}
+
+			} else {
+				task.assign(parameters);
+
+				if (task.getStatus() == Status.FAILED)
+					break;
+
+				if (p.getUpdates() > 0)
+					endOfStep(task);
+				else if (p.getDamping() < MAX_DAMPING)
+					p.setDamping(p.getDamping() * DAMPING_FACTOR);
+				else {
+					task.solveProblemAndCalculateDeviation(); // restore the solution
+					break;
+				}
+
+			}
+
+		}
+
+		/*
+		 * the iteration counter is advanced even if no step has been accepted, so that
+		 * a search stuck at the maximum damping still reaches the TIMEOUT
+		 */
+
+		p.incrementStep();
+
+		return p.getCost();
+	}
+
+	/**
+	 * Solves the damped normal equations using the Jacobian, the residuals and the
+	 * damping parameter stored in {@code p}, which must be a
+	 * {@code JacobianPath}. The system is solved with an LU decomposition rather
+	 * than an explicit inverse. Invokes {@code p.setDirection()}.
+	 */
+
+	@Override
+	public Vector direction(Path p) {
+		var jp = (JacobianPath) p;
+		var jacobian = jp.getJacobian();
+		final int n = jacobian[0].length;
+		final double lambda = jp.getDamping();
+
+		var data = new double[n][n];
+
+		for (var row : jacobian)
+			for (int i = 0; i < n; i++)
+				for (int j = 0; j < n; j++)
+					data[i][j] += row[i] * row[j];
+
+		final double EPS = 1E-15;
+
+		for (int i = 0; i < n; i++)
+			data[i][i] += lambda * max(data[i][i], EPS);
+
+		var lu = new LUDecomposition(n);
+		lu.decompose(data);
+
+		var solution = new double[n];
+		lu.solve(jp.projectedResiduals().getData(), solution);
+
+		var dir = new Vector(solution).inverted();
+		p.setDirection(dir);
+		return dir;
+	}
+
+	/**
+	 * Recalculates the Jacobian matrix exactly with the current parameters of
+	 * {@code task}.
+	 */
+
+	@Override
+	public void endOfStep(SearchTask task) throws SolverException {
+		var p = (JacobianPath) task.getPath();
+		p.setJacobian(jacobian(task, p));
+	}
+
+	/**
+	 * Calculates the Jacobian matrix of the residuals with central differences.
+	 * The residuals are evaluated at the time points fixed by {@code p}.
+	 *
+	 * @param task the task being optimised
+	 * @param p    the {@code Path} for {@code task}
+	 * @return an <math><i>m</i> &times; <i>n</i></math> array, where <i>m</i> is
+	 *         the number of time points and <i>n</i> is the number of search
+	 *         parameters
+	 */
+
+	protected double[][] jacobian(SearchTask task, JacobianPath p) {
+		final var params = task.searchVector()[0];
+		final int n = params.dimension();
+		final double dx = perturbation(task, params);
+
+		var r = perturbedEvaluations(task, params, dx, t -> {
+			t.solveProblemAndCalculateDeviation();
+			return p.residualVector(t.getResidualStatistic().getResiduals());
+		});
+
+		final int m = p.getTimes().length;
+		var jacobian = new double[m][n];
+
+		for (int i = 0; i < n; i++) {
+			var rPlus = r.get(2 * i);
+			var rMinus = r.get(2 * i + 1);
+
+			for (int k = 0; k < m; k++)
+				jacobian[k][i] = (rPlus.get(k) - rMinus.get(k)) / dx;
+		}
+
+		return jacobian;
+	}
+
+	@Override
+	public String toString() {
+		return Messages.getString("LevenbergMarquardtSolver.Descriptor");
+	}
+
+	/**
+	 * This class uses a singleton pattern, meaning there is only instance of this
+	 * class.
+	 *
+	 * @return the single (static) instance of this class
+	 */
+
+	public static LevenbergMarquardtOptimiser getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Creates a new {@code JacobianPath} instance for storing the residuals, the
+	 * Jacobian and the damping parameter for this {@code PathSolver}.
+	 *
+	 * @param t the search task
+	 * @return a {@code JacobianPath} instance
+	 */
+
+	@Override
+	public Path createPath(SearchTask t) {
+		return new JacobianPath(t);
+	}
+
+}
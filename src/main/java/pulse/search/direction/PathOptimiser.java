@@ -7,10 +7,14 @@ import static pulse.properties.NumericProperties.isDiscrete;
 import static pulse.properties.NumericPropertyKeyword.ERROR_TOLERANCE;
 import static pulse.properties.NumericPropertyKeyword.GRADIENT_RESOLUTION;
 import static pulse.properties.NumericPropertyKeyword.ITERATION_LIMIT;
+import static pulse.properties.NumericPropertyKeyword.LOWER_BOUND;
+import static pulse.properties.NumericPropertyKeyword.UPPER_BOUND;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import pulse.math.IndexedVector;
 import pulse.math.linear.Vector;
@@ -171,38 +175,130 @@ public abstract class PathOptimiser extends PropertyHolder implements Reflexive
 	 * {@code task} is solved twice (for <math><i>x<sub>i</sub> &pm;
 	 * &Delta;x<sub>i</sub></i></math>).
 	 * </p>
+	 * <p>
+	 * Whenever possible, the perturbed solutions are calculated concurrently on
+	 * independent replicas of the {@code task}, so that the latency of this
+	 * method is close to that of a single solution.
+	 * </p>
 	 * 
 	 * @param task a {@code SearchTask} that is being driven to the minimum of SSR
 	 * @return the gradient of the target function
-	 * @throws SolverException
+	 * @see perturbedEvaluations(SearchTask,IndexedVector,double,Function)
 	 */
 
 	public static Vector gradient(SearchTask task) {
 
 		final var params = task.searchVector()[0];
-		var grad = new Vector(params.dimension());
+		final int n = params.dimension();
+		final double dx = perturbation(task, params);
+
+		var ss = perturbedEvaluations(task, params, dx, t -> t.solveProblemAndCalculateDeviation());
+
+		var grad = new Vector(n);
+
+		for (int i = 0; i < n; i++)
+			grad.set(i, (ss.get(2 * i) - ss.get(2 * i + 1)) / dx);
+
+		return grad;
+
+	}
 
+	/**
+	 * Calculates the doubled magnitude of the parameter perturbation used in
+	 * finite-difference calculations. If any of the search parameters is discrete,
+	 * this is equal to twice the coordinate step of the grid. Otherwise, twice the
+	 * {@code GRADIENT_RESOLUTION} is used.
+	 * 
+	 * @param task   the task being optimised
+	 * @param params the current search vector
+	 * @return the doubled perturbation magnitude
+	 */
+
+	protected static double perturbation(SearchTask task, IndexedVector params) {
 		boolean discreteGradient = params.getIndices().stream().anyMatch(index -> isDiscrete(index));
-		final double dx = discreteGradient ? 2.0 * task.getScheme().getGrid().getXStep() : 2.0 * gradientResolution;
+		return discreteGradient ? 2.0 * task.getScheme().getGrid().getXStep() : 2.0 * gradientResolution;
+	}
 
-		for (int i = 0; i < params.dimension(); i++) {
-			final var shift = new Vector(params.dimension());
-			shift.set(i, 0.5 * dx);
+	/**
+	 * Evaluates {@code f} for each of the <math>2<i>n</i></math> parameter vectors
+	 * obtained by shifting the <i>i</i>-th component of {@code params} by
+	 * <math>&pm;0.5<i>dx</i></math>. The results are ordered as
+	 * <math>[<i>f</i>(<i>x</i><sub>0</sub>+), <i>f</i>(<i>x</i><sub>0</sub>-),
+	 * <i>f</i>(<i>x</i><sub>1</sub>+), ...]</math>.
+	 * <p>
+	 * Whenever possible, the perturbed solutions are calculated concurrently on
+	 * independent replicas of the {@code task}, leaving the state of {@code task}
+	 * itself unchanged. If the range bounds are among the search parameters, or if
+	 * the task cannot be replicated, {@code f} is applied sequentially to
+	 * {@code task}, which is assigned {@code params} again afterwards.
+	 * </p>
+	 * 
+	 * @param <T>    the type of the result
+	 * @param task   the task being optimised
+	 * @param params the current search vector
+	 * @param dx     the doubled perturbation magnitude
+	 * @param f      a function, which should solve the problem for the task passed
+	 *               as its argument and extract the result
+	 * @return a list of <math>2<i>n</i></math> results
+	 * @see pulse.tasks.SearchTask.replicas(int)
+	 */
+
+	protected static <T> List<T> perturbedEvaluations(SearchTask task, IndexedVector params, final double dx,
+			Function<SearchTask, T> f) {
+		final var indices = params.getIndices();
+		final int n = params.dimension();
+
+		/*
+		 * The range bounds belong to the experimental data, which is shared between
+		 * the task and its replicas. Hence, these cannot be perturbed concurrently.
+		 */
+
+		boolean concurrent = !indices.contains(LOWER_BOUND) && !indices.contains(UPPER_BOUND);
+
+		var replicas = concurrent ? task.replicas(2 * n) : null;
+
+		return replicas != null && replicas.size() >= 2 * n ? concurrentEvaluations(task, replicas, params, dx, f)
+				: sequentialEvaluations(task, params, dx, f);
+	}
 
-			task.assign(new IndexedVector( params.sum(shift) , params.getIndices()));
-			final double ss2 = task.solveProblemAndCalculateDeviation();
+	private static <T> List<T> concurrentEvaluations(SearchTask task, List<SearchTask> replicas,
+			IndexedVector params, final double dx, Function<SearchTask, T> f) {
+		final int n = params.dimension();
 
-			task.assign(new IndexedVector( params.subtract(shift), params.getIndices()));
-			final double ss1 = task.solveProblemAndCalculateDeviation();
+		var result = IntStream.range(0, 2 * n).parallel().mapToObj(j -> {
+			final var shift = new Vector(n);
+			shift.set(j / 2, (j % 2 == 0 ? 0.5 : -0.5) * dx);
 
-			grad.set(i, (ss2 - ss1) / dx);
+			var replica = replicas.get(j);
+			replica.assign(new IndexedVector(params.sum(shift), params.getIndices()));
+			return f.apply(replica);
+		}).collect(Collectors.toList());
 
+		if (replicas.stream().limit(2 * n).anyMatch(r -> r.getStatus() == Status.FAILED))
+			task.setStatus(Status.FAILED);
+
+		return result;
+	}
+
+	private static <T> List<T> sequentialEvaluations(SearchTask task, IndexedVector params, final double dx,
+			Function<SearchTask, T> f) {
+		final int n = params.dimension();
+		var result = new ArrayList<T>(2 * n);
+
+		for (int i = 0; i < n; i++) {
+			final var shift = new Vector(n);
+			shift.set(i, 0.5 * dx);
+
+			task.assign(new IndexedVector(params.sum(shift), params.getIndices()));
+			result.add(f.apply(task));
+
+			task.assign(new IndexedVector(params.subtract(shift), params.getIndices()));
+			result.add(f.apply(task));
 		}
 
 		task.assign(params);
 
-		return grad;
-
+		return result;
 	}
 
 	public static LinearOptimiser getLinearSolver() {
@@ -78,7 +78,7 @@ public class WolfeOptimiser extends LinearOptimiser {
 		var params = task.searchVector();
 		Segment segment = domain(params[0], params[1], direction);
 
-		double ss1 = task.solveProblemAndCalculateDeviation();
+		double ss1 = task.memoisedDeviation();
 
 		double randomConfinedValue = 0;
 		double g2p;
@@ -90,7 +90,7 @@ public class WolfeOptimiser extends LinearOptimiser {
 			final var newParams = params[0].sum(direction.multiply(randomConfinedValue));
 			task.assign(new IndexedVector(newParams, params[0].getIndices()));
 
-			final double ss2 = task.solveProblemAndCalculateDeviation();
+			final double ss2 = task.memoisedDeviation();
 
 			/**
 			 * Checks if the first Armijo inequality is not satisfied. In this case, it will
@@ -5,6 +5,7 @@ import static pulse.properties.NumericProperties.derive;
 import static pulse.properties.NumericProperty.requireType;
 import static pulse.properties.NumericPropertyKeyword.CORRELATION_THRESHOLD;
 
+import pulse.math.SlidingWindowStatistics;
 import pulse.properties.NumericProperty;
 import pulse.properties.NumericPropertyKeyword;
 import pulse.util.PropertyHolder;
@@ -21,6 +22,24 @@ public abstract class CorrelationTest extends PropertyHolder implements Reflexiv
 
 	public abstract double evaluate(double[] x, double[] y);
 
+	/**
+	 * Evaluates the correlation between components {@code i} and {@code j} of
+	 * the samples in {@code window}. By default, the component values are copied
+	 * from the window and passed to {@link #evaluate(double[], double[])}.
+	 * Subclasses may override this to use the statistics accumulated in the
+	 * window directly.
+	 * 
+	 * @param window the samples
+	 * @param i      the first component
+	 * @param j      the second component
+	 * @return the correlation value
+	 */
+
+	public double evaluate(SlidingWindowStatistics window, int i, int j) {
+		final int n = window.size();
+		return evaluate(window.component(i, new double[n]), window.component(j, new double[n]));
+	}
+
 	public boolean compareToThreshold(double value) {
 		return Math.abs(value) > threshold;
 	}
@@ -2,6 +2,8 @@ package pulse.search.statistics;
 
 import org.apache.commons.math3.stat.correlation.PearsonsCorrelation;
 
+import pulse.math.SlidingWindowStatistics;
+
 public class PearsonCorrelation extends CorrelationTest {
 
 	@Override
@@ -9,6 +11,16 @@ public class PearsonCorrelation extends CorrelationTest {
 		return (new PearsonsCorrelation()).correlation(x, y);
 	}
 
+	/**
+	 * Uses the covariances accumulated in {@code window} without accessing the
+	 * stored samples.
+	 */
+
+	@Override
+	public double evaluate(SlidingWindowStatistics window, int i, int j) {
+		return window.correlation(i, j);
+	}
+
 	@Override
 	public String getDescriptor() {
 		return "Pearson's Product-Moment Correlation";
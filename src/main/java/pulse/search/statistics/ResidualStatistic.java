@@ -20,6 +20,7 @@ public abstract class ResidualStatistic extends Statistic {
 	private double statistic;
 	private List<double[]> residuals;
 	private static String selectedOptimiserDescriptor;
+	private boolean linearInterpolation;
 
 	public ResidualStatistic() {
 		super();
@@ -38,12 +39,14 @@ public abstract class ResidualStatistic extends Statistic {
 
 		residuals.clear();
 		var indexRange = reference.getIndexRange();
-		var time = reference.getTimeSequence();
+		var time = reference.timeData();
+		var signal = reference.signalData();
+		final int size = reference.actualNumPoints();
 
 		var s = estimate.getSplineInterpolation();
 
-		int startIndex = max(closestLeft(estimate.timeAt(0), time), indexRange.getLowerBound());
-		int endIndex = min(closestRight(estimate.timeLimit(), time), indexRange.getUpperBound());
+		int startIndex = max(closestLeft(estimate.timeAt(0), time, size), indexRange.getLowerBound());
+		int endIndex = min(closestRight(estimate.timeLimit(), time, size), indexRange.getUpperBound());
 
 		double interpolated;
 		
@@ -53,10 +56,9 @@ public abstract class ResidualStatistic extends Statistic {
 			 * value smaller than the experimental points' time value
 			 */
 
-			interpolated = s.value(reference.timeAt(i));
+			interpolated = linearInterpolation ? s.linearValue(time[i]) : s.value(time[i]);
 
-			residuals.add(new double[] { reference.timeAt(i), 
-					reference.signalAt(i) - interpolated }); // y_exp - y*
+			residuals.add(new double[] { time[i], signal[i] - interpolated }); // y_exp - y*
 
 		}
 
@@ -82,6 +84,22 @@ public abstract class ResidualStatistic extends Statistic {
 		return selectedOptimiserDescriptor;
 	}
 
+	/**
+	 * Checks whether this statistic calculates the residuals using a
+	 * piecewise-linear interpolation of the heating curve instead of the spline.
+	 * This is faster, but less accurate, and is disabled by default.
+	 * 
+	 * @return {@code true} if the linear interpolation is used
+	 */
+
+	public boolean isLinearInterpolation() {
+		return linearInterpolation;
+	}
+
+	public void setLinearInterpolation(boolean linearInterpolation) {
+		this.linearInterpolation = linearInterpolation;
+	}
+
 	public NumericProperty getStatistic() {
 		return derive(OPTIMISER_STATISTIC, statistic);
 	}
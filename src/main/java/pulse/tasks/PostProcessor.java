@@ -0,0 +1,186 @@
+package pulse.tasks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>
+ * A post-processing stage shared by all {@code SearchTask}s, which performs
+ * the bookkeeping and listener notifications that do not need to hold up the
+ * optimiser, e.g. the creation of log entries.
+ * </p>
+ * <p>
+ * Each task posts its actions to its own {@code Channel}. The actions of a
+ * channel are run in the order of submission, but different channels are
+ * processed concurrently by a bounded number of daemon threads. A channel is
+ * drained in batches: all actions accumulated since the last drain are run by
+ * a single job, so that only one hand-off per batch is needed. Actions
+ * submitted with {@code submitLatest} supersede each other, so that only the
+ * most recent of them is run in each batch. Since at most one job per channel
+ * is waiting for execution at any time, the work queue of this stage is
+ * bounded by the number of channels.
+ * </p>
+ *
+ * @see pulse.tasks.TaskManager
+ */
+
+public class PostProcessor {
+
+	private final ThreadPoolExecutor executor;
+
+	/**
+	 * Creates a {@code PostProcessor} with the specified number of threads.
+	 *
+	 * @param workers the number of threads (at least one)
+	 */
+
+	public PostProcessor(int workers) {
+		if (workers < 1)
+			throw new IllegalArgumentException("Number of workers must be positive. Received: " + workers);
+		executor = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				new WorkerFactory());
+		executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Creates a new channel, which is processed by this stage.
+	 *
+	 * @return a new {@code Channel}
+	 */
+
+	public Channel open() {
+		return new Channel();
+	}
+
+	public int getWorkers() {
+		return executor.getMaximumPoolSize();
+	}
+
+	/**
+	 * An ordered sequence of actions, which are run asynchronously by the
+	 * {@code PostProcessor}.
+	 */
+
+	public class Channel {
+
+		private final ConcurrentLinkedQueue<Runnable> pending;
+		private final AtomicReference<Runnable> latest;
+		private final AtomicBoolean scheduled;
+
+		private Channel() {
+			pending = new ConcurrentLinkedQueue<>();
+			latest = new AtomicReference<>();
+			scheduled = new AtomicBoolean();
+		}
+
+		/**
+		 * Schedules {@code action} to be run after all previously submitted
+		 * actions of this channel.
+		 *
+		 * @param action the action
+		 */
+
+		public void submit(Runnable action) {
+			pending.add(action);
+			schedule();
+		}
+
+		/**
+		 * Schedules {@code action} to be run in the next batch, replacing any
+		 * action previously submitted with this method which has not been run yet.
+		 * In each batch, this action is run after the actions submitted with
+		 * {@code submit}.
+		 *
+		 * @param action the action
+		 */
+
+		public void submitLatest(Runnable action) {
+			latest.set(action);
+			schedule();
+		}
+
+		/**
+		 * Waits until all previously submitted actions have been run, or until the
+		 * timeout expires.
+		 *
+		 * @param timeout the timeout in milliseconds
+		 * @return {@code true} if all actions have been run
+		 */
+
+		public boolean flush(long timeout) {
+			var future = new CompletableFuture<Void>();
+			submit(() -> future.complete(null));
+
+			try {
+				future.get(timeout, TimeUnit.MILLISECONDS);
+				return true;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException | TimeoutException e) {
+				System.err.println("Post-processing has not finished in time. Details: ");
+				e.printStackTrace();
+			}
+
+			return false;
+		}
+
+		private void schedule() {
+			if (scheduled.compareAndSet(false, true))
+				executor.execute(this::drain);
+		}
+
+		/*
+		 * Runs all pending actions. If more actions are submitted after the queue
+		 * has been emptied, but before the flag is reset, these are picked up by
+		 * the same job.
+		 */
+
+		private void drain() {
+			do {
+
+				for (Runnable action; (action = pending.poll()) != null;)
+					run(action);
+
+				var action = latest.getAndSet(null);
+				if (action != null)
+					run(action);
+
+				scheduled.set(false);
+
+			} while ((!pending.isEmpty() || latest.get() != null) && scheduled.compareAndSet(false, true));
+		}
+
+		private void run(Runnable action) {
+			try {
+				action.run();
+			} catch (RuntimeException e) {
+				System.err.println("Error during post-processing. Details: ");
+				e.printStackTrace();
+			}
+		}
+
+	}
+
+	private static class WorkerFactory implements ThreadFactory {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable r) {
+			var thread = new Thread(r, "post-processor-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+
+	}
+
+}
@@ -27,13 +27,13 @@ import static pulse.tasks.logs.Status.IN_PROGRESS;
 import static pulse.tasks.logs.Status.READY;
 import static pulse.tasks.logs.Status.TERMINATED;
 import static pulse.tasks.processing.Buffer.getSize;
+import static pulse.util.Group.contents;
 import static pulse.util.Reflexive.instantiate;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import pulse.input.ExperimentalData;
@@ -58,10 +58,12 @@ import pulse.tasks.logs.DataLogEntry;
 import pulse.tasks.logs.Details;
 import pulse.tasks.logs.Log;
 import pulse.tasks.logs.LogEntry;
+import pulse.tasks.logs.SolutionCacheLogEntry;
 import pulse.tasks.logs.StateEntry;
 import pulse.tasks.logs.Status;
 import pulse.tasks.processing.Buffer;
 import pulse.tasks.processing.CorrelationBuffer;
+import pulse.tasks.processing.SolutionCache;
 import pulse.ui.components.PropertyHolderTable;
 import pulse.util.Accessible;
 import pulse.util.PropertyEvent;
@@ -87,6 +89,7 @@ public class SearchTask extends Accessible implements Runnable {
 	private Path path;
 	private Buffer buffer;
 	private CorrelationBuffer correlationBuffer;
+	private SolutionCache solutionCache;
 	private Log log;
 	private CorrelationTest correlationTest;
 
@@ -95,7 +98,11 @@ public class SearchTask extends Accessible implements Runnable {
 
 	private NormalityTest normalityTest;
 
+	private List<SearchTask> replicas;
+	private PostProcessor.Channel postProcessing;
+
 	private final static double RELATIVE_TIME_MARGIN = 1.01;
+	private final static long FLUSH_TIMEOUT = 10000; // ms
 
 	/**
 	 * If {@code SearchTask} finishes, and its <i>R<sup>2</sup></i> value is lower
@@ -121,9 +128,42 @@ public class SearchTask extends Accessible implements Runnable {
 		this.curve = curve;
 		curve.setParent(this);
 		correlationBuffer = new CorrelationBuffer();
+		solutionCache = new SolutionCache();
 		clear();
 	}
 
+	/**
+	 * Creates a replica of {@code original}, which shares its
+	 * {@code ExperimentalData} and {@code Identifier}, but has its own copies of
+	 * the {@code Problem}, the {@code DifferenceScheme}, and the
+	 * {@code ResidualStatistic}. The replica does not adopt the experimental data
+	 * and is not known to the {@code TaskManager}.
+	 * 
+	 * @param original the task to be replicated
+	 */
+
+	private SearchTask(SearchTask original) {
+		this.identifier = original.identifier;
+		this.curve = original.curve;
+		this.status = original.status;
+
+		this.problem = replicate(original.problem);
+		if (problem != null)
+			problem.setParent(this);
+
+		if (original.scheme != null) {
+			this.scheme = original.scheme.copy();
+			scheme.setParent(this);
+		}
+
+		if (problem != null)
+			addTimeShiftListener();
+
+		rs = instantiate(ResidualStatistic.class, original.rs.getDescriptor());
+		rs.setParent(this);
+		rs.setLinearInterpolation(original.rs.isLinearInterpolation());
+	}
+
 	/**
 	 * <p>
 	 * Resets everything to default values (for a list of default values please see
@@ -136,6 +176,7 @@ public class SearchTask extends Accessible implements Runnable {
 		curve.resetRanges();
 		buffer = new Buffer();
 		correlationBuffer.clear();
+		solutionCache.clear();
 		buffer.setParent(this);
 		log = new Log(this);
 
@@ -146,6 +187,7 @@ public class SearchTask extends Accessible implements Runnable {
 		this.path = null;
 		this.problem = null;
 		this.scheme = null;
+		this.replicas = null;
 
 		setStatus(INCOMPLETE);
 
@@ -224,12 +266,45 @@ public class SearchTask extends Accessible implements Runnable {
 		return (double) rs.getStatistic().getValue();
 	}
 
+	/**
+	 * Calculates the same value as {@code solveProblemAndCalculateDeviation()},
+	 * but re-uses the solutions previously obtained with this method during the
+	 * current run. If the current search vector matches (within the resolution of
+	 * the {@code SolutionCache}) one that has already been solved, the respective
+	 * heating curve is restored and no calculation is done. Otherwise, the problem
+	 * is solved and the solution is stored.
+	 * <p>
+	 * Note that in case of a match the {@code ResidualStatistic} is not
+	 * re-evaluated. This method is therefore intended for trial evaluations, e.g.
+	 * by the linear optimisers, which only need the value of the statistic.
+	 * </p>
+	 * 
+	 * @return the value of the residual statistic
+	 * @see pulse.tasks.processing.SolutionCache
+	 */
+
+	public double memoisedDeviation() {
+		final var params = searchVector()[0];
+		final var curve = problem.getHeatingCurve();
+
+		double cost = solutionCache.recall(params, curve);
+
+		if (Double.isNaN(cost)) {
+			cost = solveProblemAndCalculateDeviation();
+			if (status != FAILED)
+				solutionCache.store(params, cost, curve);
+		}
+
+		return cost;
+	}
+
 	/**
 	 * <p>
 	 * Runs this task if is either {@code READY} or {@code QUEUED}. Otherwise, will
 	 * do nothing. After making some preparatory steps, will initiate a loop with
 	 * successive calls to {@code PathSolver.iteration(this)}, filling the buffer
-	 * and notifying any data change listeners in parallel. This loop will go on
+	 * and notifying any data change listeners via the {@code PostProcessor} of
+	 * the {@code TaskManager}. This loop will go on
 	 * until either converging results are obtained, or a timeout is reached, or if
 	 * an execution error happens. Whether the run has been successful will be
 	 * determined by comparing the associated <i>R</i><sup>2</sup> value with the
@@ -253,7 +328,9 @@ public class SearchTask extends Accessible implements Runnable {
 
 		/* preparatory steps */
 
+		replicas = null; // replicas will be re-created with the up-to-date parameters
 		getProblem().parameterListChanged(); // get updated list of parameters
+		solutionCache.clear(); // solutions of previous runs may refer to different settings
 		solveProblemAndCalculateDeviation();
 
 		var pathSolver = getInstance();
@@ -267,49 +344,121 @@ public class SearchTask extends Accessible implements Runnable {
 
 		/* search cycle */
 
-		/* sets an independent thread for manipulating the buffer */
+		/*
+		 * the buffers are filled on this thread, which takes constant time; other
+		 * listeners are notified by the shared post-processing stage
+		 */
 
-		List<CompletableFuture<Void>> bufferFutures = new ArrayList<>(bufferSize);
-		var singleThreadExecutor = Executors.newSingleThreadExecutor();
+		if (postProcessing == null)
+			postProcessing = TaskManager.getManagerInstance().getPostProcessor().open();
 
 		outer: do {
 
-			bufferFutures.clear();
-
 			for (var i = 0; i < bufferSize; i++) {
 
 				if (status != IN_PROGRESS)
 					break outer;
 
+				// listeners outside this task are notified once per iteration
+				beginBatchUpdate();
+
 				try {
 					pathSolver.iteration(this);
 				} catch (SolverException e) {
 					status = FAILED;
 					System.err.println(this + " failed during execution. Details: ");
 					e.printStackTrace();
+				} finally {
+					commitBatchUpdate();
 				}
 
-				final var j = i;
-
-				bufferFutures.add(CompletableFuture.runAsync(() -> {
-					buffer.fill(this, j);
-					correlationBuffer.inflate(this);
-					notifyDataListeners(new DataLogEntry(this));
-				}, singleThreadExecutor));
+				buffer.fill(this);
+				correlationBuffer.inflate(this);
+				notifyIteration();
 
 			}
 
-			bufferFutures.forEach(future -> future.join());
-
 		} while (buffer.isErrorTooHigh(errorTolerance));
 
-		singleThreadExecutor.shutdown();
+		// entries of this run should be logged before its final status
+		postProcessing.flush(FLUSH_TIMEOUT);
+
+		if (solutionCache.getHits() + solutionCache.getMisses() > 0)
+			notifyDataListeners(new SolutionCacheLogEntry(this));
 
 		if (status == IN_PROGRESS)
 			runChecks();
 
 	}
 
+	/**
+	 * Provides at least {@code n} replicas of this {@code SearchTask}, which can
+	 * be used to evaluate the objective function concurrently, e.g. when
+	 * calculating the gradient. Replicas are created lazily and retained until
+	 * the next call to {@code run()}, or until either the {@code Problem} or the
+	 * {@code DifferenceScheme} of this task is changed. Any parameters subject to
+	 * optimisation should be explicitly assigned to a replica before it is used.
+	 * 
+	 * @param n the number of required replicas
+	 * @return a list of replicas, which may contain less than {@code n} elements
+	 *         if the {@code Problem} could not be replicated
+	 */
+
+	public synchronized List<SearchTask> replicas(final int n) {
+		if (replicas == null)
+			replicas = new ArrayList<>(n);
+
+		while (replicas.size() < n) {
+			var replica = new SearchTask(this);
+			if (replica.problem == null || replica.scheme == null)
+				break;
+			replicas.add(replica);
+		}
+
+		return replicas;
+	}
+
+	/**
+	 * Creates an independent replica of {@code p}.
+	 * <p>
+	 * The replica is first constructed with the copy constructor of the
+	 * declaring class, which accepts a {@code Problem} argument. Because copy
+	 * constructors do not transfer the state of all children (e.g. the baseline
+	 * parameters or the time shift of the heating curve), the values of all
+	 * numeric properties found in {@code p} and its subgroups are then explicitly
+	 * assigned to the replica.
+	 * </p>
+	 * 
+	 * @param p the problem to be replicated
+	 * @return a replica of {@code p}, or {@code null} if the declaring class does
+	 *         not provide a suitable copy constructor
+	 */
+
+	private static Problem replicate(Problem p) {
+		Problem replica = null;
+
+		try {
+			replica = p.getClass().getConstructor(Problem.class).newInstance(p);
+		} catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
+				| NoSuchMethodException | SecurityException e) {
+			System.err.println("Unable to replicate " + p.getClass().getSimpleName() + ". Details: ");
+			e.printStackTrace();
+			return null;
+		}
+
+		var numericProperties = new ArrayList<NumericProperty>(p.numericProperties());
+
+		for (var group : contents(p)) {
+			if (group instanceof Accessible)
+				numericProperties.addAll(((Accessible) group).numericProperties());
+		}
+
+		for (var property : numericProperties)
+			replica.update(property);
+
+		return replica;
+	}
+
 	private void runChecks() {
 
 		if (!normalityTest.test(this)) // first, check if the residuals are normally-distributed
@@ -394,6 +543,7 @@ public class SearchTask extends Accessible implements Runnable {
 
 	public void setProblem(Problem problem) {
 		this.problem = problem;
+		this.replicas = null;
 		problem.setParent(this);
 		problem.removeHeatingCurveListeners();
 		problem.retrieveData(curve);
@@ -412,6 +562,17 @@ public class SearchTask extends Accessible implements Runnable {
 			}
 		});
 		
+		addTimeShiftListener();
+
+	}
+
+	/*
+	 * Makes sure the calculation time limit of the scheme follows the time shift
+	 * of the heating curve. This is also needed for replicas, which may have the
+	 * time shift assigned as a search parameter.
+	 */
+
+	private void addTimeShiftListener() {
 		problem.getHeatingCurve().addHeatingCurveListener(dataEvent -> {
 
 			var event = dataEvent.getType();
@@ -423,7 +584,6 @@ public class SearchTask extends Accessible implements Runnable {
 			}
 
 		});
-
 	}
 
 	/**
@@ -435,6 +595,7 @@ public class SearchTask extends Accessible implements Runnable {
 
 	public void setScheme(DifferenceScheme scheme) {
 		this.scheme = scheme;
+		this.replicas = null;
 
 		if (problem != null && scheme != null) {
 			scheme.setParent(this);
@@ -542,6 +703,28 @@ public class SearchTask extends Accessible implements Runnable {
 		return log;
 	}
 
+	/*
+	 * In verbose mode, a data entry is created for each iteration on this
+	 * thread, so that it captures the current parameters. Otherwise, the log
+	 * discards data entries and the listeners only need a progress signal, so a
+	 * plain entry is sent instead, and any entry superseded before the listeners
+	 * have been notified is skipped. No entry reads the task state on the
+	 * post-processing thread.
+	 */
+
+	private void notifyIteration() {
+		if (listeners.isEmpty())
+			return;
+
+		if (Log.isVerbose()) {
+			var entry = new DataLogEntry(this);
+			postProcessing.submit(() -> notifyDataListeners(entry));
+		} else {
+			var entry = new LogEntry(this);
+			postProcessing.submitLatest(() -> notifyDataListeners(entry));
+		}
+	}
+
 	private void notifyDataListeners(LogEntry e) {
 		for (var l : listeners) {
 			l.onDataCollected(e);
@@ -647,6 +830,10 @@ public class SearchTask extends Accessible implements Runnable {
 		return correlationBuffer;
 	}
 
+	public SolutionCache getSolutionCache() {
+		return solutionCache;
+	}
+
 	public CorrelationTest getCorrelationTest() {
 		return correlationTest;
 	}
@@ -22,20 +22,18 @@ import static pulse.util.Group.contents;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import pulse.input.InterpolationDataset;
 import pulse.properties.SampleName;
 import pulse.search.direction.PathOptimiser;
+import pulse.tasks.TaskScheduler.Priority;
 import pulse.tasks.listeners.TaskRepositoryEvent;
 import pulse.tasks.listeners.TaskRepositoryListener;
 import pulse.tasks.listeners.TaskSelectionEvent;
@@ -54,6 +52,12 @@ import pulse.util.UpwardsNavigable;
  * with the associated {@code Result}s and {@code InterpolationDataset}s. Note
  * that {@code TaskManager} adopts a {@code PathSolver}.
  * </p>
+ * <p>
+ * The execution of tasks is delegated to a {@code TaskScheduler}, which runs
+ * them on a bounded number of worker threads according to their priorities.
+ * The bookkeeping and notifications accompanying each iteration of the tasks
+ * are handled by a shared {@code PostProcessor}.
+ * </p>
  *
  */
 
@@ -64,11 +68,12 @@ public class TaskManager extends UpwardsNavigable {
 	private List<SearchTask> tasks;
 	private SearchTask selectedTask;
 	private Map<SearchTask, Result> results;
+	private Map<SearchTask, Priority> priorities;
 
 	private boolean singleStatement = true;
 
-	private final int THREADS_AVAILABLE = threadsAvailable();
-	private ForkJoinPool taskPool;
+	private TaskScheduler scheduler;
+	private PostProcessor postProcessor;
 
 	private List<TaskSelectionListener> selectionListeners;
 	private List<TaskRepositoryListener> taskRepositoryListeners;
@@ -92,8 +97,10 @@ public class TaskManager extends UpwardsNavigable {
 
 	private TaskManager() {
 		tasks = new ArrayList<SearchTask>();
-		results = new HashMap<SearchTask, Result>();
-		taskPool = new ForkJoinPool(THREADS_AVAILABLE - 1);
+		results = new ConcurrentHashMap<SearchTask, Result>();
+		priorities = new ConcurrentHashMap<SearchTask, Priority>();
+		scheduler = new TaskScheduler();
+		postProcessor = new PostProcessor(Math.max(1, threadsAvailable() / 4));
 		selectionListeners = new CopyOnWriteArrayList<TaskSelectionListener>();
 		taskRepositoryListeners = new CopyOnWriteArrayList<TaskRepositoryListener>();
 		this.addHierarchyListener(statementListener);
@@ -111,11 +118,13 @@ public class TaskManager extends UpwardsNavigable {
 	}
 
 	/**
-	 * <t>Executes {@code t} asynchronously using a {@code CompletableFuture}. When
-	 * done, creates a {@code Result} and puts it into the
-	 * {@code Map(SearchTask,Result)} in this {@code TaskManager}.</t>
+	 * <t>Submits {@code t} to the {@code TaskScheduler} with the priority
+	 * previously assigned to this task. When done, creates a {@code Result} and
+	 * puts it into the {@code Map(SearchTask,Result)} in this
+	 * {@code TaskManager}.</t>
 	 * 
 	 * @param t a {@code SearchTask} that will be executed
+	 * @see getPriority(SearchTask)
 	 */
 
 	public void execute(SearchTask t) {
@@ -127,7 +136,7 @@ public class TaskManager extends UpwardsNavigable {
 
 		// run task t -- after task completed, write result and trigger listeners
 
-		CompletableFuture.runAsync(t).thenRun(() -> {
+		scheduler.submit(t, getPriority(t)).thenRun(() -> {
 			if (t.getStatus() == DONE) {
 				results.put(t, new Result(t, ResultFormat.getInstance()));
 			}
@@ -136,6 +145,41 @@ public class TaskManager extends UpwardsNavigable {
 		});
 	}
 
+	/**
+	 * Cancels the execution of {@code t}, if it has been submitted.
+	 * 
+	 * @param t a {@code SearchTask}
+	 * @return {@code true} if the execution has been cancelled
+	 * @see pulse.tasks.TaskScheduler.cancel(SearchTask)
+	 */
+
+	public boolean cancel(SearchTask t) {
+		return scheduler.cancel(t);
+	}
+
+	/**
+	 * Retrieves the priority used when {@code t} is executed.
+	 * 
+	 * @param t a {@code SearchTask}
+	 * @return the priority of {@code t}, {@code NORMAL} by default
+	 */
+
+	public Priority getPriority(SearchTask t) {
+		return priorities.getOrDefault(t, Priority.NORMAL);
+	}
+
+	public void setPriority(SearchTask t, Priority priority) {
+		priorities.put(t, requireNonNull(priority));
+	}
+
+	public TaskScheduler getScheduler() {
+		return scheduler;
+	}
+
+	public PostProcessor getPostProcessor() {
+		return postProcessor;
+	}
+
 	/**
 	 * Notifies the {@code TaskRepositoryListener}s of the {@code e}
 	 * 
@@ -148,11 +192,13 @@ public class TaskManager extends UpwardsNavigable {
 
 	/**
 	 * <p>
-	 * Creates a queue of {@code SearchTask}s based on their readiness and feeds
-	 * that queue to a {@code ForkJoinPool} using a parallel stream. The size of the
-	 * pool is usually limited by hardware, e.g. for a 4 core system with 2
+	 * Creates a queue of {@code SearchTask}s based on their readiness and submits
+	 * each task in that queue to the {@code TaskScheduler}. The number of tasks
+	 * running simultaneously is limited by the number of workers of the scheduler,
+	 * which is usually limited by hardware, e.g. for a 4 core system with 2
 	 * independent threads on each core, the limitation will be <math>4*2 - 1 =
 	 * 7</math>, etc.
+	 * </p>
 	 */
 
 	public void executeAll() {
@@ -168,12 +214,7 @@ public class TaskManager extends UpwardsNavigable {
 			}
 		}).collect(toList());
 
-		try {
-			taskPool.submit(() -> queue.parallelStream().forEach(t -> execute(t))).get();
-		} catch (InterruptedException | ExecutionException e) {
-			System.err.println("Execution exception while running multiple tasks");
-			e.printStackTrace();
-		}
+		queue.forEach(t -> execute(t));
 
 		gc();
 
@@ -200,6 +241,7 @@ public class TaskManager extends UpwardsNavigable {
 
 	public void cancelAllTasks() {
 
+		scheduler.cancelAll();
 		tasks.stream().forEach(t -> t.terminate());
 
 		var e = new TaskRepositoryEvent(SHUTDOWN, null);
@@ -261,6 +303,7 @@ public class TaskManager extends UpwardsNavigable {
 		});
 
 		tasks.clear();
+		priorities.clear();
 		selectTask(null, null);
 	}
 
@@ -401,6 +444,7 @@ public class TaskManager extends UpwardsNavigable {
 			return false;
 
 		tasks.remove(t);
+		priorities.remove(t);
 
 		var e = new TaskRepositoryEvent(TASK_REMOVED, t.getIdentifier());
 
@@ -579,4 +623,4 @@ public class TaskManager extends UpwardsNavigable {
 			this.addHierarchyListener(statementListener);
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,261 @@
+package pulse.tasks;
+
+import static pulse.ui.Launcher.threadsAvailable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Schedules the execution of {@code SearchTask}s on a bounded number of worker
+ * threads. Tasks waiting for execution are ordered by their {@code Priority}
+ * and, within the same priority, by the order of submission. To prevent
+ * starvation, a task with a higher priority may only overtake a limited number
+ * of tasks submitted before it, which is set by {@value PRIORITY_SPAN} per
+ * priority level.
+ * </p>
+ * <p>
+ * The worker threads are daemon threads with a priority slightly lower than
+ * normal, so that the user interface stays responsive while a large batch of
+ * tasks is processed. By default, the number of workers is equal to
+ * {@code Launcher.threadsAvailable()}.
+ * </p>
+ *
+ * @see pulse.tasks.TaskManager
+ */
+
+public class TaskScheduler {
+
+	/**
+	 * Priorities of {@code SearchTask} runs, from the lowest to the highest.
+	 */
+
+	public enum Priority {
+		LOW, NORMAL, HIGH;
+	}
+
+	public final static int PRIORITY_SPAN = 1000;
+
+	private ThreadPoolExecutor executor;
+	private Map<SearchTask, Job> jobs;
+	private AtomicLong sequence;
+
+	/**
+	 * Creates a {@code TaskScheduler} with the default number of workers.
+	 */
+
+	public TaskScheduler() {
+		this(threadsAvailable());
+	}
+
+	/**
+	 * Creates a {@code TaskScheduler} with the specified number of workers.
+	 *
+	 * @param workers the number of worker threads (at least one)
+	 */
+
+	public TaskScheduler(int workers) {
+		requirePositive(workers);
+		jobs = new IdentityHashMap<>();
+		sequence = new AtomicLong();
+		executor = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS, new PriorityBlockingQueue<>(),
+				new WorkerFactory());
+		executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Submits {@code task} for execution with the specified {@code priority}. If
+	 * {@code task} is already waiting for execution or running, returns the
+	 * previously created future.
+	 *
+	 * @param task     the task to be run
+	 * @param priority the priority of this run
+	 * @return a {@code CompletableFuture}, which completes when the run finishes
+	 *         or is cancelled
+	 */
+
+	public synchronized CompletableFuture<Void> submit(SearchTask task, Priority priority) {
+		var job = jobs.get(task);
+
+		if (job == null) {
+			job = new Job(task, priority);
+			jobs.put(task, job);
+			executor.execute(job);
+		}
+
+		return job.future;
+	}
+
+	/**
+	 * Cancels the run of {@code task}. If the task is waiting for execution, it is
+	 * removed from the queue. In any case, the task is terminated, which will
+	 * stop its run if it is in progress.
+	 *
+	 * @param task a task previously submitted to this scheduler
+	 * @return {@code true} if the run of {@code task} has been cancelled,
+	 *         {@code false} if it had not been submitted or has finished
+	 * @see pulse.tasks.SearchTask.terminate()
+	 */
+
+	public boolean cancel(SearchTask task) {
+		Job job;
+
+		synchronized (this) {
+			job = jobs.get(task);
+		}
+
+		if (job == null)
+			return false;
+
+		task.terminate();
+
+		/*
+		 * a running job is only forgotten when it finishes, so that the same task is
+		 * never run concurrently
+		 */
+
+		if (executor.remove(job))
+			finished(job);
+
+		return true;
+	}
+
+	/**
+	 * Cancels all runs, which have been submitted to this scheduler and have not
+	 * finished yet.
+	 */
+
+	public void cancelAll() {
+		List<SearchTask> list;
+
+		synchronized (this) {
+			list = new ArrayList<>(jobs.keySet());
+		}
+
+		list.forEach(t -> cancel(t));
+	}
+
+	/**
+	 * Checks whether {@code task} is waiting for execution or is running.
+	 *
+	 * @param task a task
+	 * @return {@code true} if the task has been submitted and has not finished
+	 */
+
+	public synchronized boolean isScheduled(SearchTask task) {
+		return jobs.containsKey(task);
+	}
+
+	/**
+	 * @return the number of tasks waiting for execution
+	 */
+
+	public int queuedTasks() {
+		return executor.getQueue().size();
+	}
+
+	/**
+	 * @return the number of tasks that are currently running
+	 */
+
+	public int activeTasks() {
+		return executor.getActiveCount();
+	}
+
+	public int getWorkers() {
+		return executor.getMaximumPoolSize();
+	}
+
+	/**
+	 * Changes the number of worker threads. Tasks that are already running are
+	 * not affected.
+	 *
+	 * @param workers the new number of workers (at least one)
+	 */
+
+	public synchronized void setWorkers(int workers) {
+		requirePositive(workers);
+
+		if (workers > executor.getMaximumPoolSize()) {
+			executor.setMaximumPoolSize(workers);
+			executor.setCorePoolSize(workers);
+		} else {
+			executor.setCorePoolSize(workers);
+			executor.setMaximumPoolSize(workers);
+		}
+
+	}
+
+	private static void requirePositive(int workers) {
+		if (workers < 1)
+			throw new IllegalArgumentException("Number of workers must be positive. Received: " + workers);
+	}
+
+	private void finished(Job job) {
+		synchronized (this) {
+			jobs.remove(job.task, job);
+		}
+
+		job.future.complete(null); // callbacks are invoked outside the lock
+	}
+
+	/**
+	 * A single run of a {@code SearchTask}, which is ordered by its priority and
+	 * the submission sequence number.
+	 */
+
+	private class Job implements Runnable, Comparable<Job> {
+
+		private final SearchTask task;
+		private final long rank;
+		private final CompletableFuture<Void> future;
+
+		private Job(SearchTask task, Priority priority) {
+			this.task = task;
+			this.rank = sequence.getAndIncrement() - (long) priority.ordinal() * PRIORITY_SPAN;
+			this.future = new CompletableFuture<>();
+		}
+
+		@Override
+		public void run() {
+			try {
+				task.run();
+			} catch (RuntimeException e) {
+				System.err.println("Error while running " + task + ". Details: ");
+				e.printStackTrace();
+			} finally {
+				finished(this);
+			}
+		}
+
+		@Override
+		public int compareTo(Job o) {
+			return Long.compare(rank, o.rank);
+		}
+
+	}
+
+	private static class WorkerFactory implements ThreadFactory {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable r) {
+			var thread = new Thread(r, "task-worker-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			thread.setPriority(Thread.NORM_PRIORITY - 1);
+			return thread;
+		}
+
+	}
+
+}
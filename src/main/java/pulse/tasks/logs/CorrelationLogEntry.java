@@ -1,6 +1,6 @@
 package pulse.tasks.logs;
 
-import static pulse.properties.NumericProperties.def;
+import static pulse.properties.NumericProperties.pattern;
 
 import pulse.properties.NumericPropertyKeyword;
 import pulse.tasks.SearchTask;
@@ -32,9 +32,9 @@ public class CorrelationLogEntry extends LogEntry {
 
 		for (ImmutablePair<NumericPropertyKeyword> key : map.keySet()) {
 			sb.append("<tr><td>");
-			sb.append(def(key.getFirst()).getAbbreviation(false));
+			sb.append(pattern(key.getFirst()).getAbbreviation(false));
 			sb.append("</td><td>");
-			sb.append(def(key.getSecond()).getAbbreviation(false));
+			sb.append(pattern(key.getSecond()).getAbbreviation(false));
 			sb.append("</td><td>");
 			if (test.compareToThreshold(map.get(key)))
 				sb.append("<font color='red'>");
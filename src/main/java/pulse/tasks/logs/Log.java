@@ -1,9 +1,14 @@
 package pulse.tasks.logs;
 
+import static java.util.stream.Collectors.joining;
+
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 
 import pulse.tasks.Identifier;
 import pulse.tasks.SearchTask;
@@ -12,16 +17,32 @@ import pulse.tasks.listeners.LogEntryListener;
 import pulse.tasks.listeners.StatusChangeListener;
 import pulse.ui.Messages;
 import pulse.util.Group;
+import pulse.util.RingBuffer;
 
 /**
  * A {@code Log} is used to track changes for a specific {@code SearchTask},
  * such as changes of status and/or data collection events.
+ * <p>
+ * The entries are stored in a bounded {@code RingBuffer}, so that only the
+ * last {@value CAPACITY} entries are retained. The {@code LogEntryListener}s
+ * are notified, and logs are exported, on a background thread shared by all
+ * logs, which guarantees that the entries of each log are delivered in order
+ * without holding up the task that generated them.
+ * </p>
  *
  */
 
 public class Log extends Group {
 
-	private List<LogEntry> logEntries;
+	private final static int CAPACITY = 2048;
+
+	private final static ExecutorService dispatcher = Executors.newSingleThreadExecutor(r -> {
+		var thread = new Thread(r, "Log dispatcher");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private RingBuffer<LogEntry> logEntries;
 	private LocalTime start;
 	private LocalTime end;
 	private Identifier id;
@@ -30,8 +51,8 @@ public class Log extends Group {
 
 	/**
 	 * Creates a {@code Log} for this {@code task} that will automatically store
-	 * {@code TaskStatEvent}s and a list of {@code DataLogEntr}ies in thread-safe
-	 * collections. This is done by adding a {@code TaskListener} and a
+	 * {@code TaskStatEvent}s and a list of {@code DataLogEntr}ies in a
+	 * thread-safe ring buffer. This is done by adding a {@code TaskListener} and a
 	 * {@code StatusChangeListener} to the {@code task} object.
 	 * 
 	 * @param task the task to be logged.
@@ -43,16 +64,17 @@ public class Log extends Group {
 		setParent(task);
 		id = task.getIdentifier();
 
-		this.logEntries = new CopyOnWriteArrayList<>();
+		this.logEntries = new RingBuffer<>(CAPACITY);
 		listeners = new CopyOnWriteArrayList<>();
 
 		task.addTaskListener(le -> {
 
 			/**
-			 * Do these actions each time data has been collected for this task.
+			 * Do these actions each time data has been collected for this task. The
+			 * summary of the solution cache is recorded even if the log is not verbose.
 			 */
 
-			if (task.getStatus() != Status.INCOMPLETE && verbose) {
+			if (task.getStatus() != Status.INCOMPLETE && (verbose || le instanceof SolutionCacheLogEntry)) {
 				logEntries.add(le);
 				notifyListeners(le);
 			}
@@ -90,11 +112,12 @@ public class Log extends Group {
 	}
 
 	private void logFinished() {
-		listeners.stream().forEach(l -> l.onLogFinished(this));
+		dispatcher.execute(() -> listeners.stream().forEach(l -> l.onLogFinished(this)));
 	}
 
 	private void notifyListeners(LogEntry logEntry) {
-		listeners.stream().forEach(l -> l.onNewEntry(logEntry));
+		if (!listeners.isEmpty())
+			dispatcher.execute(() -> listeners.stream().forEach(l -> l.onNewEntry(logEntry)));
 	}
 
 	public List<LogEntryListener> getListeners() {
@@ -122,30 +145,66 @@ public class Log extends Group {
 	}
 
 	/**
-	 * Outputs all log entries consecutively.
+	 * Outputs all retained log entries consecutively.
+	 * 
+	 * @see lines()
 	 */
 
 	@Override
 	public String toString() {
+		var newLine = System.lineSeparator();
+		return lines().collect(joining(newLine, "", newLine));
+	}
 
-		StringBuilder sb = new StringBuilder();
-		String newLine = System.lineSeparator();
+	/**
+	 * The text representation of this {@code Log}, line by line: the task
+	 * description and an empty line, followed by a note on any discarded entries
+	 * and by a snapshot of the retained entries.
+	 * 
+	 * @return a stream of lines
+	 */
 
-		sb.append(TaskManager.getManagerInstance().getTask(id));
-		sb.append(newLine);
-		sb.append(newLine);
+	public Stream<String> lines() {
+		var header = Stream.of(String.valueOf(TaskManager.getManagerInstance().getTask(id)), "");
+		final long discarded = discardedEntries();
 
-		for (LogEntry le : logEntries) {
-			sb.append(le);
-			sb.append(newLine);
-		}
+		if (discarded > 0)
+			header = Stream.concat(header, Stream.of("(" + discarded + " earlier entries discarded)"));
 
-		return sb.toString();
+		return Stream.concat(header, getLogEntries().stream().map(String::valueOf));
+	}
 
+	/**
+	 * Runs {@code action} on the background thread shared by all logs, after the
+	 * listeners have been notified of all entries added so far. Actions are run in
+	 * the order of submission.
+	 * 
+	 * @param action an action, e.g. persisting a log
+	 */
+
+	public static void dispatch(Runnable action) {
+		dispatcher.execute(action);
 	}
 
+	/**
+	 * Creates a snapshot of the entries retained in this {@code Log}.
+	 * 
+	 * @return a list of entries, from the oldest to the newest one
+	 */
+
 	public List<LogEntry> getLogEntries() {
-		return logEntries;
+		return logEntries.snapshot();
+	}
+
+	/**
+	 * The number of oldest entries which have been discarded due to the limited
+	 * capacity of this {@code Log}.
+	 * 
+	 * @return the number of discarded entries
+	 */
+
+	public long discardedEntries() {
+		return logEntries.discarded();
 	}
 
 	/**
@@ -173,11 +232,11 @@ public class Log extends Group {
 	/**
 	 * Finds the last recorded entry in this {@code Log}.
 	 * 
-	 * @return last recorded entry.
+	 * @return last recorded entry, or {@code null} if this {@code Log} is empty.
 	 */
 
 	public LogEntry lastEntry() {
-		return logEntries.stream().reduce((first, second) -> second).get();
+		return logEntries.last();
 	}
 
 	/**
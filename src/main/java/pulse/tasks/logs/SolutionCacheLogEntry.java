@@ -0,0 +1,45 @@
+package pulse.tasks.logs;
+
+import pulse.tasks.SearchTask;
+
+/**
+ * A {@code LogEntry} summarising how often the {@code SolutionCache} of a
+ * {@code SearchTask} has spared a calculation during the last run. The
+ * statistics are copied when this entry is created.
+ *
+ * @see pulse.tasks.processing.SolutionCache
+ */
+
+public class SolutionCacheLogEntry extends LogEntry {
+
+	private final long hits;
+	private final long misses;
+	private final double hitRate;
+
+	public SolutionCacheLogEntry(SearchTask t) {
+		super(t);
+		var cache = t.getSolutionCache();
+		hits = cache.getHits();
+		misses = cache.getMisses();
+		hitRate = cache.hitRate();
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	public double getHitRate() {
+		return hitRate;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("<p>Solutions re-used: <b>%d</b> of %d (%.1f%%)</p>", hits, hits + misses,
+				100.0 * hitRate);
+	}
+
+}
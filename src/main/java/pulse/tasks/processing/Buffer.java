@@ -10,6 +10,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import pulse.math.IndexedVector;
+import pulse.math.SlidingWindowStatistics;
 import pulse.properties.NumericProperty;
 import pulse.properties.NumericPropertyKeyword;
 import pulse.properties.Property;
@@ -20,6 +21,12 @@ import pulse.util.PropertyHolder;
  * A {@code Buffer} is used to estimate the convergence of the reverse problem
  * solution, by comparing the variance of the properties to a pre-specified
  * error tolerance.
+ * <p>
+ * The buffer is a ring of fixed size: each new entry replaces the oldest one.
+ * The means and variances of the properties are updated incrementally as the
+ * entries are added, so that checking the convergence does not require
+ * iterating over the buffer contents.
+ * </p>
  * 
  * @see pulse.tasks.SearchTask.run()
  */
@@ -27,7 +34,10 @@ import pulse.util.PropertyHolder;
 public class Buffer extends PropertyHolder {
 
 	private IndexedVector[] data;
-	private double[] statistic;
+	private SlidingWindowStatistics statistics;
+	private double[] sample;
+	private List<NumericPropertyKeyword> indices;
+	private int head;
 	private static int size = (int) def(BUFFER_SIZE).getValue();
 
 	/**
@@ -48,44 +58,65 @@ public class Buffer extends PropertyHolder {
 		return data;
 	}
 
+	/**
+	 * Empties this buffer and adjusts its capacity to the current buffer size.
+	 */
+
 	public void init() {
 		this.data = new IndexedVector[size];
-		statistic = new double[size];
+		statistics = null;
+		head = 0;
 	}
 
 	/**
-	 * (Over)writes a buffer cell corresponding to the {@code bufferElement} with
-	 * the current set of parameters of {@code SearchTask}.
+	 * Writes the current set of parameters of {@code SearchTask} to this buffer,
+	 * overwriting the oldest entry if the buffer is full.
 	 * 
-	 * @param t             the {@code SearchTask}
-	 * @param bufferElement the {@code bufferElement} which will be written over
+	 * @param t the {@code SearchTask}
 	 */
 
-	public void fill(SearchTask t, int bufferElement) {
-		statistic[bufferElement] = (double) t.getResidualStatistic().getStatistic().getValue();
-		data[bufferElement] = t.searchVector()[0];
+	public void fill(SearchTask t) {
+		final var v = t.searchVector()[0];
+		final int n = v.dimension();
+
+		if (statistics == null || statistics.getDimension() != n + 1) {
+			statistics = new SlidingWindowStatistics(data.length, n + 1);
+			sample = new double[n + 1];
+		}
+
+		indices = v.getIndices();
+
+		for (int i = 0; i < n; i++)
+			sample[i] = v.get(i);
+
+		// the last component holds the residual statistic
+		sample[n] = (double) t.getResidualStatistic().getStatistic().getValue();
+
+		statistics.add(sample);
+		data[head] = v;
+		head = (head + 1) % data.length;
 	}
 
 	/**
 	 * Determines whether the relative error (variance divided by mean) for any of
 	 * the properties in this buffer is higher than the expect
-	 * {@code errorTolerance}.
+	 * {@code errorTolerance}. This is always the case when the buffer is not yet
+	 * full.
 	 * 
 	 * @param errorTolerance the maximum tolerated relative error.
 	 * @return {@code true} if convergence has not been reached.
 	 */
 
 	public boolean isErrorTooHigh(double errorTolerance) {
-		double[] e = new double[data[0].dimension()];
+		if (statistics == null || !statistics.isFull())
+			return true;
 
+		final int n = statistics.getDimension() - 1;
 		boolean result = false;
-		
-		for (int i = 0; i < e.length && (!result); i++) {
-			var index = data[0].getIndex(i);
-			final double av = average(index);
-			e[i] = variance(index) / (av*av);
 
-			result = e[i] > errorTolerance;
+		for (int i = 0; i < n && (!result); i++) {
+			final double av = statistics.mean(i);
+			result = statistics.variance(i) / (av * av) > errorTolerance;
 		}
 
 		return result;
@@ -103,15 +134,7 @@ public class Buffer extends PropertyHolder {
 	 */
 
 	public double average(NumericPropertyKeyword index) {
-
-		double av = 0;
-
-		for (IndexedVector v : data) {
-			av += v.get(index);
-		}
-
-		return av / data.length;
-
+		return statistics.mean(indices.indexOf(index));
 	}
 
 	/**
@@ -121,15 +144,7 @@ public class Buffer extends PropertyHolder {
 	 */
 
 	public double averageStatistic() {
-
-		double av = 0;
-
-		for (double ss : statistic) {
-			av += ss;
-		}
-
-		return av / data.length;
-
+		return statistics.mean(statistics.getDimension() - 1);
 	}
 
 	/**
@@ -143,16 +158,7 @@ public class Buffer extends PropertyHolder {
 	 */
 
 	public double variance(NumericPropertyKeyword index) {
-		double sd = 0;
-		double av = average(index);
-
-		for (IndexedVector v : data) {
-			final double s = v.get(index) - av;
-			sd += s*s;
-		}
-
-		return sd / data.length;
-
+		return statistics.variance(indices.indexOf(index));
 	}
 
 	/**
@@ -194,4 +200,4 @@ public class Buffer extends PropertyHolder {
 		return new ArrayList<Property>(Arrays.asList(def(BUFFER_SIZE)));
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
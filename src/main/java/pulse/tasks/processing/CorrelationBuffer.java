@@ -1,24 +1,37 @@
 package pulse.tasks.processing;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
-import pulse.math.IndexedVector;
+import pulse.math.SlidingWindowStatistics;
 import pulse.properties.NumericPropertyKeyword;
 import pulse.search.statistics.CorrelationTest;
 import pulse.search.statistics.EmptyCorrelationTest;
 import pulse.tasks.SearchTask;
-import pulse.util.ImmutableDataEntry;
 import pulse.util.ImmutablePair;
 
+/**
+ * Accumulates the values of the search parameters over the successive
+ * iterations of a {@code SearchTask} to test them for correlations.
+ * <p>
+ * Only the last {@value CAPACITY} iterations are retained. The covariances of
+ * the parameters are updated incrementally, so that a
+ * {@code CorrelationTest} that only needs these (such as the Pearson test)
+ * does not have to iterate over the stored values.
+ * </p>
+ *
+ */
+
 public class CorrelationBuffer {
 
-	private List<IndexedVector> params;
+	private final static int CAPACITY = 512;
+
+	private SlidingWindowStatistics statistics;
+	private List<NumericPropertyKeyword> indices;
+
 	private static Set<ImmutablePair<NumericPropertyKeyword>> excludePairList;
 	private static Set<NumericPropertyKeyword> excludeSingleList;
 
@@ -33,29 +46,31 @@ public class CorrelationBuffer {
 	}
 
 	public CorrelationBuffer() {
-		params = new ArrayList<>();
+		// intentionally blank
 	}
 
 	public void inflate(SearchTask t) {
-		params.add(t.searchVector()[0]);
+		var v = t.searchVector()[0];
+
+		if (statistics == null || statistics.getDimension() != v.dimension())
+			statistics = new SlidingWindowStatistics(CAPACITY, v.dimension());
+
+		indices = v.getIndices();
+		statistics.add(v.getData());
 	}
 
 	public void clear() {
-		params.clear();
+		if (statistics != null)
+			statistics.clear();
 	}
 
 	public Map<ImmutablePair<NumericPropertyKeyword>, Double> evaluate(CorrelationTest t) {
-		if(params.isEmpty())
+		if (statistics == null || statistics.size() == 0)
 			throw new IllegalStateException("Zero number of entries in parameter list");
 
 		if (t instanceof EmptyCorrelationTest)
 			return null;
 
-		var indices = params.get(0).getIndices();
-		var map = indices.stream()
-				.map(index -> new ImmutableDataEntry<>(index, params.stream().mapToDouble(v -> v.get(index)).toArray()))
-				.collect(Collectors.toMap(x -> x.getKey(), x -> x.getValue()));
-
 		int indicesSize = indices.size();
 		var correlationMap = new HashMap<ImmutablePair<NumericPropertyKeyword>, Double>();
 		ImmutablePair<NumericPropertyKeyword> pair = null;
@@ -66,7 +81,7 @@ public class CorrelationBuffer {
 				for (int j = i + 1; j < indicesSize; j++) {
 					pair = new ImmutablePair<>(indices.get(i), indices.get(j));
 					if (!excludeSingleList.contains(indices.get(j)) && !excludePairList.contains(pair))
-						correlationMap.put(pair, t.evaluate(map.get(indices.get(i)), map.get(indices.get(j))));
+						correlationMap.put(pair, t.evaluate(statistics, i, j));
 				}
 
 		}
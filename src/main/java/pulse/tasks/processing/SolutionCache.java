@@ -0,0 +1,190 @@
+package pulse.tasks.processing;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import pulse.HeatingCurve;
+import pulse.math.IndexedVector;
+import pulse.properties.NumericPropertyKeyword;
+
+/**
+ * Memoises the solutions calculated by a {@code SearchTask} for the vectors of
+ * search parameters it has already visited.
+ * <p>
+ * Each entry stores the value of the residual statistic and a snapshot of the
+ * {@code HeatingCurve}. The entries are keyed by the parameter indices and the
+ * parameter values, which are quantised by discarding the
+ * {@value QUANTISATION_BITS} least significant bits of their mantissas. Vectors
+ * that differ by less than approximately one part in
+ * 2<sup>{@value SIGNIFICANT_BITS}</sup> in every component thus share an
+ * entry, as the difference is well below the resolution of any of the
+ * solvers. Only the {@value CAPACITY} most recently used entries are retained.
+ * </p>
+ * <p>
+ * The cache is only valid as long as no property other than the search
+ * parameters changes, and should therefore be cleared whenever a new search is
+ * started.
+ * </p>
+ *
+ * @see pulse.tasks.SearchTask#memoisedDeviation()
+ */
+
+public class SolutionCache {
+
+	private final static int CAPACITY = 64;
+	private final static int QUANTISATION_BITS = 24;
+	private final static int SIGNIFICANT_BITS = 52 - QUANTISATION_BITS;
+
+	private final static long HALF = 1L << (QUANTISATION_BITS - 1);
+	private final static long MASK = -1L << QUANTISATION_BITS;
+
+	private final Map<Key, Solution> entries;
+
+	private long hits;
+	private long misses;
+
+	public SolutionCache() {
+		entries = new LinkedHashMap<>(2 * CAPACITY, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Solution> eldest) {
+				return size() > CAPACITY;
+			}
+
+		};
+	}
+
+	/**
+	 * Looks up the solution previously stored for {@code params}. If found, the
+	 * snapshot is copied into {@code curve}.
+	 *
+	 * @param params the search vector
+	 * @param curve  the heating curve to be restored
+	 * @return the stored value of the residual statistic, or {@code NaN} if no
+	 *         solution has been stored for {@code params}
+	 */
+
+	public double recall(IndexedVector params, HeatingCurve curve) {
+		var solution = entries.get(new Key(params));
+
+		if (solution == null) {
+			misses++;
+			return Double.NaN;
+		}
+
+		hits++;
+		curve.restore(solution.snapshot);
+		return solution.cost;
+	}
+
+	/**
+	 * Stores the solution for {@code params}.
+	 *
+	 * @param params the search vector
+	 * @param cost   the value of the residual statistic
+	 * @param curve  the heating curve calculated for {@code params}
+	 */
+
+	public void store(IndexedVector params, double cost, HeatingCurve curve) {
+		entries.put(new Key(params), new Solution(cost, curve.snapshot()));
+	}
+
+	/**
+	 * Removes all entries and resets the statistics.
+	 */
+
+	public void clear() {
+		entries.clear();
+		hits = 0;
+		misses = 0;
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * The fraction of look-ups that have found a stored solution since this
+	 * cache was last cleared.
+	 *
+	 * @return the hit rate, or zero if no look-ups have been made
+	 */
+
+	public double hitRate() {
+		final long total = hits + misses;
+		return total > 0 ? (double) hits / total : 0.0;
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public int getCapacity() {
+		return CAPACITY;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Solution cache: %d hits, %d misses (%.1f%%)", hits, misses, 100.0 * hitRate());
+	}
+
+	/*
+	 * Rounds x to the nearest value with the lowest QUANTISATION_BITS of the
+	 * mantissa equal to zero. The sign bit is not affected.
+	 */
+
+	private static long quantise(final double x) {
+		return (Double.doubleToLongBits(x + 0.0) + HALF) & MASK;
+	}
+
+	private static class Key {
+
+		private final List<NumericPropertyKeyword> indices;
+		private final long[] values;
+		private final int hash;
+
+		private Key(IndexedVector params) {
+			indices = List.copyOf(params.getIndices());
+			values = new long[params.dimension()];
+			for (int i = 0; i < values.length; i++)
+				values[i] = quantise(params.get(i));
+			hash = 31 * indices.hashCode() + Arrays.hashCode(values);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Key))
+				return false;
+
+			var k = (Key) o;
+			return Arrays.equals(values, k.values) && indices.equals(k.indices);
+		}
+
+	}
+
+	private static class Solution {
+
+		private final double cost;
+		private final HeatingCurve.Snapshot snapshot;
+
+		private Solution(double cost, HeatingCurve.Snapshot snapshot) {
+			this.cost = cost;
+			this.snapshot = snapshot;
+		}
+
+	}
+
+}
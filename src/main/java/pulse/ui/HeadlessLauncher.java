@@ -0,0 +1,331 @@
+package pulse.ui;
+
+import static java.lang.System.err;
+import static java.lang.System.out;
+import static pulse.tasks.logs.Status.DONE;
+import static pulse.tasks.logs.Status.READY;
+import static pulse.tasks.listeners.TaskRepositoryEvent.State.TASK_FINISHED;
+import static pulse.util.Reflexive.allDescriptors;
+import static pulse.util.Reflexive.instancesOf;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import pulse.io.export.ExportManager;
+import pulse.io.export.Extension;
+import pulse.problem.schemes.DifferenceScheme;
+import pulse.problem.statements.Problem;
+import pulse.search.direction.PathOptimiser;
+import pulse.search.linear.LinearOptimiser;
+import pulse.search.statistics.CorrelationTest;
+import pulse.search.statistics.NormalityTest;
+import pulse.search.statistics.ResidualStatistic;
+import pulse.tasks.SearchTask;
+import pulse.tasks.TaskManager;
+import pulse.tasks.listeners.TaskRepositoryListener;
+
+/**
+ * <p>
+ * Launches {@code PULsE} in batch mode without creating a GUI. The experimental
+ * files (or directories containing them) listed on the command line are read by
+ * the {@code ReaderManager} and converted to tasks by the {@code TaskManager}.
+ * Each task is then assigned the selected problem statement and difference
+ * scheme, and all tasks are executed using the selected {@code PathOptimiser}
+ * and {@code ResidualStatistic}. The results are exported by the
+ * {@code ExportManager} and a short throughput report is printed to the
+ * standard output.
+ * </p>
+ * <p>
+ * The AWT toolkit is never initialised, so that this launcher can be used on
+ * machines without a display, e.g. on a cluster node. Run without arguments to
+ * see the available options.
+ * </p>
+ *
+ * @see pulse.ui.Launcher
+ */
+
+public class HeadlessLauncher {
+
+	private final static String DEFAULT_PROBLEM = "ClassicalProblem";
+	private final static String DEFAULT_OPTIMISER = "ApproximatedHessianOptimiser";
+	private final static String DEFAULT_LINEAR_OPTIMISER = "WolfeOptimiser";
+
+	private String problemName = DEFAULT_PROBLEM;
+	private String schemeName;
+	private String optimiserName = DEFAULT_OPTIMISER;
+	private String linearOptimiserName = DEFAULT_LINEAR_OPTIMISER;
+	private String statisticName;
+	private boolean linearResiduals;
+	private int workers;
+	private File outputDirectory = new File("results");
+	private Extension extension = Extension.CSV;
+	private List<File> files = new ArrayList<>();
+
+	private HeadlessLauncher() {
+		// intentionally blank
+	}
+
+	/**
+	 * Parses the command line, runs all tasks and exports the results. Exits with
+	 * a non-zero status if the arguments are invalid or no task could be loaded.
+	 */
+
+	public static void main(String[] args) {
+		System.setProperty("java.awt.headless", "true");
+
+		var launcher = new HeadlessLauncher();
+
+		try {
+			launcher.parse(args);
+		} catch (IllegalArgumentException e) {
+			err.println(e.getMessage());
+			err.println();
+			usage();
+			System.exit(1);
+		}
+
+		System.exit(launcher.run() ? 0 : 1);
+	}
+
+	private static void usage() {
+		err.println("Usage: java -cp <classpath> pulse.ui.HeadlessLauncher [options] <file|directory>...");
+		err.println("Options:");
+		err.println("  -problem <name>      problem statement class (default: " + DEFAULT_PROBLEM + ")");
+		err.println("  -scheme <name>       difference scheme class (default: the one preferred by the problem)");
+		err.println("  -optimiser <name>    path optimiser class (default: " + DEFAULT_OPTIMISER + ")");
+		err.println("  -linear <name>       linear optimiser class (default: " + DEFAULT_LINEAR_OPTIMISER + ")");
+		err.println("  -statistic <name>    optimiser statistic descriptor (default: as in the GUI)");
+		err.println("  -workers <n>         number of tasks running simultaneously");
+		err.println("  -out <directory>     directory for the exported results (default: results)");
+		err.println("  -format <csv|html>   format of the exported results (default: csv)");
+		err.println("  -linear-residuals    use linear interpolation when calculating residuals");
+	}
+
+	private void parse(String[] args) {
+		if (args.length == 0)
+			throw new IllegalArgumentException("No input files specified.");
+
+		for (int i = 0; i < args.length; i++) {
+
+			switch (args[i]) {
+			case "-problem":
+				problemName = value(args, ++i);
+				break;
+			case "-scheme":
+				schemeName = value(args, ++i);
+				break;
+			case "-optimiser":
+				optimiserName = value(args, ++i);
+				break;
+			case "-linear":
+				linearOptimiserName = value(args, ++i);
+				break;
+			case "-statistic":
+				statisticName = value(args, ++i);
+				break;
+			case "-workers":
+				try {
+					workers = Integer.parseInt(value(args, ++i));
+				} catch (NumberFormatException e) {
+					throw new IllegalArgumentException("Not a number: " + args[i]);
+				}
+				if (workers < 1)
+					throw new IllegalArgumentException("Number of workers must be positive: " + workers);
+				break;
+			case "-out":
+				outputDirectory = new File(value(args, ++i));
+				break;
+			case "-format":
+				var format = value(args, ++i);
+				extension = Arrays.stream(Extension.values()).filter(e -> e.toString().equalsIgnoreCase(format))
+						.findFirst().orElseThrow(() -> new IllegalArgumentException("Unknown format: " + format));
+				break;
+			case "-linear-residuals":
+				linearResiduals = true;
+				break;
+			default:
+				if (args[i].startsWith("-"))
+					throw new IllegalArgumentException("Unknown option: " + args[i]);
+				addFiles(new File(args[i]));
+			}
+
+		}
+
+		if (files.isEmpty())
+			throw new IllegalArgumentException("No input files found.");
+	}
+
+	private static String value(String[] args, int i) {
+		if (i >= args.length)
+			throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+		return args[i];
+	}
+
+	private void addFiles(File f) {
+		if (f.isDirectory()) {
+			var list = f.listFiles(File::isFile);
+			Arrays.sort(list);
+			files.addAll(Arrays.asList(list));
+		} else if (f.isFile())
+			files.add(f);
+		else
+			throw new IllegalArgumentException("File not found: " + f);
+	}
+
+	/**
+	 * Selects an instance of {@code type}, the class of which has the simple name
+	 * {@code name}.
+	 */
+
+	private static <T> T select(List<T> instances, String name, String type) {
+		return instances.stream().filter(i -> i.getClass().getSimpleName().equals(name)).findFirst()
+				.orElseThrow(() -> new IllegalArgumentException("Unknown " + type + ": " + name + ". Available: "
+						+ instances.stream().map(i -> i.getClass().getSimpleName()).collect(Collectors.joining(", "))));
+	}
+
+	private static String first(Iterable<String> descriptors) {
+		return descriptors.iterator().next();
+	}
+
+	/**
+	 * Selects the statistics used by the tasks. Similar to the GUI, the first
+	 * available descriptor is selected unless specified otherwise.
+	 */
+
+	private void selectStatistics() {
+		NormalityTest.setSelectedTestDescriptor(first(allDescriptors(NormalityTest.class)));
+		CorrelationTest.setSelectedTestDescriptor(first(allDescriptors(CorrelationTest.class)));
+
+		var set = allDescriptors(ResidualStatistic.class);
+		set.removeAll(allDescriptors(NormalityTest.class));
+
+		if (statisticName == null)
+			statisticName = first(set);
+		else if (!set.contains(statisticName))
+			throw new IllegalArgumentException("Unknown statistic: " + statisticName + ". Available: " + set);
+
+		ResidualStatistic.setSelectedOptimiserDescriptor(statisticName);
+	}
+
+	private void selectOptimiser() {
+		var optimiser = select(instancesOf(PathOptimiser.class), optimiserName, "optimiser");
+		var linearOptimiser = select(instancesOf(LinearOptimiser.class), linearOptimiserName, "linear optimiser");
+		PathOptimiser.setInstance(optimiser);
+		optimiser.setLinearSolver(linearOptimiser);
+	}
+
+	private static Problem newProblem(Problem pattern, Problem old) {
+		try {
+			return old != null ? pattern.getClass().getConstructor(Problem.class).newInstance(old)
+					: pattern.getClass().getDeclaredConstructor().newInstance();
+		} catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
+				| NoSuchMethodException | SecurityException e) {
+			err.println("Unable to create " + pattern.getClass().getSimpleName() + ". Details: ");
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	/**
+	 * Loads the tasks, assigns the problem statement and the difference scheme,
+	 * runs all tasks and exports the results.
+	 *
+	 * @return {@code true} if at least one task has been executed
+	 */
+
+	private boolean run() {
+		Problem problem;
+		DifferenceScheme scheme;
+
+		try {
+			selectStatistics();
+			selectOptimiser();
+			problem = select(instancesOf(Problem.class), problemName, "problem");
+			var schemes = problem.availableSolutions();
+			scheme = schemeName == null
+					? schemes.stream().filter(s -> problem.defaultScheme().isAssignableFrom(s.getClass())).findFirst()
+							.orElse(schemes.get(0))
+					: select(schemes, schemeName, "scheme");
+		} catch (IllegalArgumentException e) {
+			err.println(e.getMessage());
+			return false;
+		}
+
+		var instance = TaskManager.getManagerInstance();
+
+		if (workers > 0)
+			instance.getScheduler().setWorkers(workers);
+
+		final long start = System.nanoTime();
+
+		instance.generateTasks(files);
+		var tasks = new ArrayList<SearchTask>();
+
+		for (var t : instance.getTaskList()) {
+			var p = newProblem(problem, t.getProblem());
+			if (p == null)
+				continue;
+			t.setProblem(p);
+			t.setScheme(scheme.copy());
+			t.getResidualStatistic().setLinearInterpolation(linearResiduals);
+			if (t.checkProblems() == READY)
+				tasks.add(t);
+			else
+				err.println(t + " is not ready: " + t.getStatus().getDetails());
+		}
+
+		final long loaded = System.nanoTime();
+
+		out.printf("Loaded %d tasks from %d files (%d ready) in %.2f s%n", instance.numberOfTasks(), files.size(),
+				tasks.size(), (loaded - start) * 1E-9);
+		out.printf("Running with %s, %s, %s using %d workers%n", problem.getClass().getSimpleName(),
+				scheme.getClass().getSimpleName(), PathOptimiser.getInstance().getClass().getSimpleName(),
+				instance.getScheduler().getWorkers());
+
+		if (tasks.isEmpty())
+			return false;
+
+		var latch = new CountDownLatch(tasks.size());
+
+		TaskRepositoryListener listener = e -> {
+			if (e.getState() == TASK_FINISHED) {
+				var t = instance.getTask(e.getId());
+				out.printf("  %s: %s%n", t, t.getStatus());
+				latch.countDown();
+			}
+		};
+
+		instance.addTaskRepositoryListener(listener);
+		tasks.forEach(t -> instance.execute(t));
+
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			err.println("Interrupted while waiting for the tasks to finish. Details: ");
+			e.printStackTrace();
+			instance.cancelAllTasks();
+		}
+
+		instance.removeTaskRepositoryListener(listener);
+
+		final long finished = System.nanoTime();
+
+		outputDirectory.mkdirs();
+		ExportManager.exportAllResults(outputDirectory, extension);
+
+		final long done = tasks.stream().filter(t -> t.getStatus() == DONE).count();
+		final double seconds = (finished - loaded) * 1E-9;
+
+		out.printf("Finished %d tasks (%d done, %d failed) in %.2f s: %.2f tasks per minute%n", tasks.size(), done,
+				tasks.size() - done, seconds, tasks.size() / seconds * 60.0);
+		out.println("Results exported to " + outputDirectory.getAbsolutePath());
+
+		return true;
+	}
+
+}
@@ -105,8 +105,25 @@ public class LogPane extends JEditorPane implements Descriptive {
 		post(sb.toString());
 	}
 
-	public synchronized void callUpdate() {
-		updateExecutor.submit(() -> update());
+	/**
+	 * Schedules {@code entry} to be appended to this pane on the update thread.
+	 * 
+	 * @param entry the new log entry
+	 */
+
+	public void callUpdate(LogEntry entry) {
+		updateExecutor.submit(() -> post(entry));
+	}
+
+	/**
+	 * Schedules the time taken by the task to be appended to this pane after all
+	 * previously submitted entries.
+	 * 
+	 * @param log the finished log
+	 */
+
+	public void callTimeTaken(Log log) {
+		updateExecutor.submit(() -> printTimeTaken(log));
 	}
 
 	public void printAll() {
@@ -131,20 +148,6 @@ public class LogPane extends JEditorPane implements Descriptive {
 
 	}
 
-	private synchronized void update() {
-		var task = TaskManager.getManagerInstance().getSelectedTask();
-
-		if (task == null)
-			return;
-
-		var log = task.getLog();
-
-		if (!log.isStarted())
-			return;
-
-		post(log.lastEntry());
-	}
-
 	public void clear() {
 		try {
 			getDocument().remove(0, getDocument().getLength());
@@ -168,4 +171,4 @@ public class LogPane extends JEditorPane implements Descriptive {
 		return "Log_" + TaskManager.getManagerInstance().getSelectedTask().getIdentifier().getValue();
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -117,7 +117,7 @@ public class PropertyHolderTable extends JTable {
 		this.propertyHolder = propertyHolder;
 		if (propertyHolder != null) {
 			updateTable();
-			propertyHolder.addListener(event -> {
+			propertyHolder.addDeferrableListener(event -> {
 				if (!(event.getSource() instanceof PropertyHolderTable))
 					updateTable();
 			});
@@ -195,4 +195,4 @@ public class PropertyHolderTable extends JTable {
 		return propertyHolder;
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -4,8 +4,6 @@ import static java.awt.BorderLayout.CENTER;
 import static java.awt.BorderLayout.NORTH;
 import static java.awt.BorderLayout.PAGE_END;
 import static java.awt.GridBagConstraints.WEST;
-import static java.lang.System.err;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static javax.swing.SwingUtilities.getWindowAncestor;
 import static pulse.io.export.ExportManager.askToExport;
 import static pulse.tasks.listeners.TaskRepositoryEvent.State.TASK_ADDED;
@@ -76,24 +74,14 @@ public class LogFrame extends JInternalFrame {
 
 				@Override
 				public void onLogFinished(Log log) {
-					if (instance.getSelectedTask() == task) {
-
-						try {
-							logTextPane.getUpdateExecutor().awaitTermination(10, MILLISECONDS);
-						} catch (InterruptedException e) {
-							err.println("Log not finished in time");
-							e.printStackTrace();
-						}
-
-						logTextPane.printTimeTaken(log);
-
-					}
+					if (instance.getSelectedTask() == task)
+						logTextPane.callTimeTaken(log);
 				}
 
 				@Override
 				public void onNewEntry(LogEntry e) {
 					if (instance.getSelectedTask() == task)
-						logTextPane.callUpdate();
+						logTextPane.callUpdate(e);
 				}
 
 			}
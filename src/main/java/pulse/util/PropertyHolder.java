@@ -12,14 +12,19 @@ import pulse.properties.Property;
 /**
  * An {@code Accessible} that has a list of parameters it accepts as its own and
  * a list of {@code PropertyHolderListener} that track changes with all
- * properties of the {@code Accessible}.
+ * properties of the {@code Accessible}. Listeners that do not need to follow
+ * every change, such as user interface components, may be added as deferrable
+ * listeners. These are notified at most once per property when a batch update
+ * is in progress for an ancestor of this {@code PropertyHolder}.
  *
+ * @see UpwardsNavigable.beginBatchUpdate()
  */
 
 public abstract class PropertyHolder extends Accessible {
 
 	private List<Property> parameters = listedTypes();
 	private List<PropertyHolderListener> listeners;
+	private List<PropertyHolderListener> deferrableListeners;
 	private String prefix;
 
 	/**
@@ -48,6 +53,7 @@ public abstract class PropertyHolder extends Accessible {
 
 	public PropertyHolder() {
 		this.listeners = new ArrayList<>();
+		this.deferrableListeners = new ArrayList<>();
 	}
 
 	/**
@@ -181,6 +187,14 @@ public abstract class PropertyHolder extends Accessible {
 		var event = new PropertyEvent(source, this, property);
 		listeners.forEach(l -> l.onPropertyChanged(event));
 
+		if (!deferrableListeners.isEmpty()) {
+			Runnable delivery = () -> deferrableListeners.forEach(l -> l.onPropertyChanged(event));
+			var root = batchRoot();
+
+			if (root == null || !root.defer(this, event, false, delivery))
+				delivery.run();
+		}
+
 		/*
 		 * If the changes are triggered by an external GUI component (such as
 		 * PropertyHolderTable), inform parents about this
@@ -207,12 +221,25 @@ public abstract class PropertyHolder extends Accessible {
 
 	public void removeHeatingCurveListeners() {
 		this.listeners.clear();
+		this.deferrableListeners.clear();
 	}
 
 	public void addListener(PropertyHolderListener l) {
 		this.listeners.add(l);
 	}
 
+	/**
+	 * Adds a listener, which may be notified with a delay if a batch update is in
+	 * progress. Only the last change of each property during the batch is passed
+	 * to this listener.
+	 * 
+	 * @param l the listener
+	 */
+
+	public void addDeferrableListener(PropertyHolderListener l) {
+		this.deferrableListeners.add(l);
+	}
+
 	public List<PropertyHolderListener> getListeners() {
 		return listeners;
 	}
@@ -281,4 +308,4 @@ public abstract class PropertyHolder extends Accessible {
 		this.prefix = prefix;
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package pulse.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free buffer, which retains the most recently added elements.
+ * <p>
+ * Each element is assigned a sequence number and is written to the slot given
+ * by that number modulo the capacity, overwriting the oldest element. Adding an
+ * element thus takes constant time regardless of the number of elements added
+ * previously. Any number of threads may add elements and read the contents
+ * concurrently. An element that is still being written when the contents are
+ * read may be missing from the snapshot.
+ * </p>
+ *
+ * @param <T> the type of elements
+ */
+
+public class RingBuffer<T> {
+
+	private final int capacity;
+	private final AtomicReferenceArray<Node<T>> slots;
+	private final AtomicLong counter;
+
+	/**
+	 * Creates an empty {@code RingBuffer}.
+	 *
+	 * @param capacity the maximum number of retained elements
+	 */
+
+	public RingBuffer(final int capacity) {
+		if (capacity < 1)
+			throw new IllegalArgumentException("Illegal capacity: " + capacity);
+		this.capacity = capacity;
+		slots = new AtomicReferenceArray<>(capacity);
+		counter = new AtomicLong();
+	}
+
+	/**
+	 * Adds {@code element} to this buffer, discarding the oldest element if the
+	 * buffer is full.
+	 *
+	 * @param element the element to be added
+	 */
+
+	public void add(T element) {
+		final long seq = counter.getAndIncrement();
+		final int slot = (int) (seq % capacity);
+		final var node = new Node<>(seq, element);
+
+		for (var current = slots.get(slot); current == null || current.seq < seq; current = slots.get(slot)) {
+			if (slots.compareAndSet(slot, current, node))
+				break;
+		}
+
+	}
+
+	/**
+	 * Creates a list of the elements currently held in this buffer, from the
+	 * oldest to the newest one.
+	 *
+	 * @return a snapshot of the contents
+	 */
+
+	public List<T> snapshot() {
+		final long end = counter.get();
+		final long start = Math.max(0, end - capacity);
+		var list = new ArrayList<T>((int) (end - start));
+
+		for (long seq = start; seq < end; seq++) {
+			var node = slots.get((int) (seq % capacity));
+			if (node != null && node.seq == seq)
+				list.add(node.value);
+		}
+
+		return list;
+	}
+
+	/**
+	 * Retrieves the most recently added element.
+	 *
+	 * @return the newest element, or {@code null} if the buffer is empty
+	 */
+
+	public T last() {
+		final long end = counter.get();
+		final long start = Math.max(0, end - capacity);
+
+		for (long seq = end - 1; seq >= start; seq--) {
+			var node = slots.get((int) (seq % capacity));
+			if (node != null && node.seq == seq)
+				return node.value;
+		}
+
+		return null;
+	}
+
+	/**
+	 * The number of elements that have been overwritten since this buffer was
+	 * created.
+	 *
+	 * @return the number of discarded elements
+	 */
+
+	public long discarded() {
+		return Math.max(0, counter.get() - capacity);
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	private static class Node<T> {
+
+		private final long seq;
+		private final T value;
+
+		private Node(long seq, T value) {
+			this.seq = seq;
+			this.value = value;
+		}
+
+	}
+
+}
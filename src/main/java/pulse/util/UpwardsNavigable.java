@@ -1,8 +1,11 @@
 package pulse.util;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import pulse.properties.NumericProperty;
 import pulse.tasks.Identifier;
 import pulse.tasks.SearchTask;
 
@@ -14,6 +17,16 @@ import pulse.tasks.SearchTask;
  * which stands higher in hierarchy than this object. The {@code parent} is
  * always informed if any changes happen with its child properties.
  * </p>
+ * <p>
+ * An {@code UpwardsNavigable} may be put in a batch update mode, which is
+ * useful when its descendants are updated many times in quick succession,
+ * e.g. by an optimiser. In this mode, the events originating from the
+ * descendants still reach this object and its descendants as usual, but are
+ * not passed further upwards, nor to any deferrable listeners of the
+ * descendants. Instead, these events are stored and delivered when the batch
+ * is committed, with only the last event retained for each property of each
+ * {@code PropertyHolder}.
+ * </p>
  *
  */
 
@@ -22,6 +35,9 @@ public abstract class UpwardsNavigable implements Descriptive {
 	private UpwardsNavigable parent;
 	private List<HierarchyListener> listeners = new ArrayList<HierarchyListener>();
 
+	private volatile Map<PendingKey, Runnable> pending;
+	private int batchDepth;
+
 	public void removeHierarchyListeners() {
 		this.listeners.clear();
 	}
@@ -48,9 +64,89 @@ public abstract class UpwardsNavigable implements Descriptive {
 
 	public void tellParent(PropertyEvent e) {
 		if (parent != null) {
-			parent.listeners.forEach(l -> l.onChildPropertyChanged(e));
-			parent.tellParent(e);
+			final var p = parent;
+			p.listeners.forEach(l -> l.onChildPropertyChanged(e));
+
+			if (!p.defer(p, e, true, () -> p.tellParent(e)))
+				p.tellParent(e);
+		}
+	}
+
+	/**
+	 * Starts a batch update. Batches may be nested, in which case the events are
+	 * only delivered when the outermost batch is committed.
+	 * 
+	 * @see commitBatchUpdate()
+	 */
+
+	public synchronized void beginBatchUpdate() {
+		if (batchDepth++ == 0)
+			pending = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Ends a batch update. If this is the outermost batch, delivers the events
+	 * stored since the batch has started.
+	 * 
+	 * @throws IllegalStateException if no batch update is in progress
+	 */
+
+	public void commitBatchUpdate() {
+		Map<PendingKey, Runnable> events;
+
+		synchronized (this) {
+			if (batchDepth == 0)
+				throw new IllegalStateException("No batch update in progress");
+
+			if (--batchDepth > 0)
+				return;
+
+			events = pending;
+			pending = null;
 		}
+
+		events.values().forEach(Runnable::run);
+	}
+
+	/**
+	 * Checks whether a batch update is in progress for this
+	 * {@code UpwardsNavigable}.
+	 * 
+	 * @return {@code true} if a batch has been started and not committed
+	 */
+
+	public boolean isBatchUpdating() {
+		return pending != null;
+	}
+
+	/**
+	 * Finds the closest {@code UpwardsNavigable} in the hierarchy, starting from
+	 * this object, which is in a batch update mode.
+	 * 
+	 * @return the batch root, or {@code null} if there is no batch update in
+	 *         progress
+	 */
+
+	protected UpwardsNavigable batchRoot() {
+		for (var u = this; u != null; u = u.parent)
+			if (u.pending != null)
+				return u;
+		return null;
+	}
+
+	/*
+	 * Stores the delivery of e to target if in batch mode, replacing any earlier
+	 * delivery of the same property of the same holder.
+	 */
+
+	synchronized boolean defer(UpwardsNavigable target, PropertyEvent e, boolean upwards, Runnable delivery) {
+		if (pending == null)
+			return false;
+
+		var key = new PendingKey(target, e, upwards);
+		pending.remove(key);
+		pending.put(key, delivery);
+		return true;
 	}
 
 	/**
@@ -115,4 +211,43 @@ public abstract class UpwardsNavigable implements Descriptive {
 		return id == null ? name : name + "_" + id.getValue();
 	}
 
+	/*
+	 * Identifies the deliveries of an event that may be coalesced.
+	 */
+
+	private static class PendingKey {
+
+		private final UpwardsNavigable target;
+		private final PropertyHolder holder;
+		private final Object type;
+		private final boolean upwards;
+
+		private PendingKey(UpwardsNavigable target, PropertyEvent e, boolean upwards) {
+			this.target = target;
+			this.holder = e.getPropertyHolder();
+			var property = e.getProperty();
+			this.type = property instanceof NumericProperty ? ((NumericProperty) property).getType()
+					: property.getClass();
+			this.upwards = upwards;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof PendingKey))
+				return false;
+
+			var k = (PendingKey) o;
+			return target == k.target && holder == k.holder && type.equals(k.type) && upwards == k.upwards;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = System.identityHashCode(target);
+			result = 31 * result + System.identityHashCode(holder);
+			result = 31 * result + type.hashCode();
+			return 31 * result + (upwards ? 1 : 0);
+		}
+
+	}
+
 }
\ No newline at end of file
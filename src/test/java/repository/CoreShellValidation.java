@@ -0,0 +1,207 @@
+package repository;
+
+import static java.lang.Math.abs;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static pulse.properties.NumericProperties.derive;
+import static pulse.properties.NumericPropertyKeyword.AXIAL_COATING_THICKNESS;
+import static pulse.properties.NumericPropertyKeyword.COATING_DIFFUSIVITY;
+import static pulse.properties.NumericPropertyKeyword.DIAMETER;
+import static pulse.properties.NumericPropertyKeyword.GRID_DENSITY;
+import static pulse.properties.NumericPropertyKeyword.HEAT_LOSS;
+import static pulse.properties.NumericPropertyKeyword.HEAT_LOSS_SIDE;
+import static pulse.properties.NumericPropertyKeyword.RADIAL_COATING_THICKNESS;
+import static pulse.properties.NumericPropertyKeyword.SHELL_GRID_DENSITY;
+import static pulse.properties.NumericPropertyKeyword.SPOT_DIAMETER;
+import static pulse.properties.NumericPropertyKeyword.TAU_FACTOR;
+import static pulse.properties.NumericPropertyKeyword.TIME_LIMIT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import pulse.HeatingCurve;
+import pulse.math.IndexedVector;
+import pulse.problem.schemes.solvers.ADILayeredSolver;
+import pulse.problem.schemes.solvers.ADILinearisedSolver;
+import pulse.problem.statements.ClassicalProblem2D;
+import pulse.problem.statements.CoreShellProblem;
+import pulse.problem.statements.ExtendedThermalProperties;
+import pulse.problem.statements.Pulse2D;
+
+class CoreShellValidation {
+
+	private final static double TOLERANCE = 1E-4;
+	private final static double SHELL = 100E-6;
+	private final static double DIAMETER_VALUE = 2E-3;
+
+	/*
+	 * With a vanishing shell made of the core material, the core-shell problem
+	 * reduces to the classical two-dimensional problem. The heating curves are
+	 * compared relative to their maximum.
+	 */
+
+	private static void compareWithClassical(final double shellThickness) {
+		var reference = new ClassicalProblem2D();
+		new ADILinearisedSolver().solve(reference);
+
+		var problem = new CoreShellProblem();
+		problem.setCoatingAxialThickness(derive(AXIAL_COATING_THICKNESS, shellThickness));
+		problem.setCoatingRadialThickness(derive(RADIAL_COATING_THICKNESS, shellThickness));
+		problem.setCoatingDiffusivity(
+				derive(COATING_DIFFUSIVITY, (Number) problem.getProperties().getDiffusivity().getValue()));
+		new ADILayeredSolver().solve(problem);
+
+		var expected = reference.getHeatingCurve();
+		var actual = problem.getHeatingCurve();
+		final double max = expected.apparentMaximum();
+
+		assertEquals(expected.actualNumPoints(), actual.actualNumPoints());
+
+		for (int i = 0; i < expected.actualNumPoints(); i++) {
+			assertEquals(expected.timeAt(i), actual.timeAt(i), 1E-12);
+			assertEquals(expected.signalAt(i), actual.signalAt(i), TOLERANCE * abs(max));
+		}
+	}
+
+	@Test
+	void testNoShell() {
+		compareWithClassical(0.0);
+	}
+
+	@Test
+	void testThinShell() {
+		compareWithClassical(1E-10);
+	}
+
+	/*
+	 * A sample of 2 mm diameter with a 100 um shell on all sides. The coating
+	 * diffusivity is kappa times that of the core.
+	 */
+
+	private static CoreShellProblem shelledSample(double kappa) {
+		var problem = new CoreShellProblem();
+		setGeometry(problem);
+		problem.setCoatingAxialThickness(derive(AXIAL_COATING_THICKNESS, SHELL));
+		problem.setCoatingRadialThickness(derive(RADIAL_COATING_THICKNESS, SHELL));
+		problem.setCoatingDiffusivity(derive(COATING_DIFFUSIVITY, kappa * problem.getProperties().diffusivity()));
+		return problem;
+	}
+
+	private static void setGeometry(ClassicalProblem2D problem) {
+		var properties = (ExtendedThermalProperties) problem.getProperties();
+		properties.setSampleDiameter(derive(DIAMETER, DIAMETER_VALUE));
+	}
+
+	private static void setNarrowSpot(ClassicalProblem2D problem) {
+		((Pulse2D) problem.getPulse()).setSpotDiameter(derive(SPOT_DIAMETER, 0.5 * DIAMETER_VALUE));
+	}
+
+	private static void setLosses(ClassicalProblem2D problem, double bi) {
+		var properties = (ExtendedThermalProperties) problem.getProperties();
+		properties.setHeatLoss(derive(HEAT_LOSS, bi));
+		properties.setSideLosses(derive(HEAT_LOSS_SIDE, bi));
+	}
+
+	/*
+	 * Without heat losses, the absorbed energy is eventually spread uniformly over
+	 * the core and the shell, so the final temperature is that of the classical
+	 * problem divided by the ratio of volumes. This holds for any coating
+	 * diffusivity. The laser spot is kept well within the core, so that the same
+	 * energy is absorbed in both problems.
+	 */
+
+	@Test
+	void testEnergyBalance() {
+		final var timeLimit = derive(TIME_LIMIT, 20.0);
+
+		var reference = new ClassicalProblem2D();
+		setGeometry(reference);
+		setNarrowSpot(reference);
+		setLosses(reference, 0.0);
+		var referenceSolver = new ADILinearisedSolver();
+		referenceSolver.setTimeLimit(timeLimit);
+		referenceSolver.solve(reference);
+
+		var properties = (ExtendedThermalProperties) reference.getProperties();
+		final double l = properties.sampleThickness();
+		final double r = 0.5 * properties.sampleDiameter();
+		final double volumeRatio = (1.0 + 2.0 * SHELL / l) * (1.0 + SHELL / r) * (1.0 + SHELL / r);
+
+		for (double kappa : new double[] { 0.25, 4.0 }) {
+			var problem = shelledSample(kappa);
+			setNarrowSpot(problem);
+			setLosses(problem, 0.0);
+			var solver = new ADILayeredSolver();
+			solver.setTimeLimit(timeLimit);
+			solver.solve(problem);
+
+			// the final temperatures before normalisation
+
+			assertEquals(1.0, volumeRatio * solver.signal() / referenceSolver.signal(), 2E-3);
+		}
+	}
+
+	private static HeatingCurve solveWithLosses(int coreDensity, int shellDensity) {
+		var problem = shelledSample(0.25);
+		setLosses(problem, 0.5);
+		var solver = new ADILayeredSolver(derive(GRID_DENSITY, coreDensity), derive(SHELL_GRID_DENSITY, shellDensity),
+				derive(TAU_FACTOR, 0.5));
+		solver.setTimeLimit(derive(TIME_LIMIT, 2.0));
+		solver.solve(problem);
+		return problem.getHeatingCurve();
+	}
+
+	private static double maxDifference(HeatingCurve a, HeatingCurve b) {
+		var sa = a.getSplineInterpolation();
+		var sb = b.getSplineInterpolation();
+		double max = 0;
+
+		for (double t = 0.01; t < 1.9; t += 0.01)
+			max = Math.max(max, abs(sa.value(t) - sb.value(t)));
+
+		return max;
+	}
+
+	/*
+	 * With heat losses from all surfaces, the heating curve should converge as
+	 * the core and the shell grids are refined together.
+	 */
+
+	@Test
+	void testGridConvergence() {
+		var coarse = solveWithLosses(20, 5);
+		var medium = solveWithLosses(40, 10);
+		var fine = solveWithLosses(80, 20);
+
+		final double e1 = maxDifference(coarse, medium);
+		final double e2 = maxDifference(medium, fine);
+
+		assertTrue(e2 < 0.6 * e1, "No convergence: " + e1 + ", " + e2);
+		assertTrue(e2 < 5E-3, "Difference too high: " + e2);
+	}
+
+	@Test
+	void testAssignRoundTrip() {
+		var problem = shelledSample(3.0);
+		problem.setCoatingAxialThickness(derive(AXIAL_COATING_THICKNESS, 30E-6));
+		problem.setCoatingRadialThickness(derive(RADIAL_COATING_THICKNESS, 70E-6));
+		final double coatingDiffusivity = (double) problem.getCoatingDiffusivity().getValue();
+
+		// the diffusivity is listed first, since it depends on both thicknesses
+
+		var indices = List.of(COATING_DIFFUSIVITY, AXIAL_COATING_THICKNESS, RADIAL_COATING_THICKNESS);
+		var output = new IndexedVector[] { new IndexedVector(indices), new IndexedVector(indices) };
+		problem.optimisationVector(output, new ArrayList<>());
+
+		var other = new CoreShellProblem();
+		setGeometry(other);
+		other.assign(output[0]);
+
+		assertEquals(30E-6, (double) other.getCoatingAxialThickness().getValue(), 1E-18);
+		assertEquals(70E-6, (double) other.getCoatingRadialThickness().getValue(), 1E-18);
+		assertEquals(coatingDiffusivity, (double) other.getCoatingDiffusivity().getValue(), 1E-18);
+	}
+
+}
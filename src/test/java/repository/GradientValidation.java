@@ -0,0 +1,140 @@
+package repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static pulse.properties.NumericProperties.def;
+import static pulse.properties.NumericProperties.derive;
+import static pulse.properties.NumericPropertyKeyword.GRADIENT_RESOLUTION;
+import static pulse.properties.NumericPropertyKeyword.HEAT_LOSS;
+import static pulse.properties.NumericPropertyKeyword.TEST_TEMPERATURE;
+import static pulse.properties.NumericPropertyKeyword.TIME_SHIFT;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pulse.input.ExperimentalData;
+import pulse.input.Metadata;
+import pulse.input.Range;
+import pulse.math.IndexedVector;
+import pulse.math.linear.Vector;
+import pulse.problem.schemes.solvers.ImplicitLinearisedSolver;
+import pulse.problem.statements.ClassicalProblem;
+import pulse.search.direction.ActiveFlags;
+import pulse.search.direction.PathOptimiser;
+import pulse.search.statistics.CorrelationTest;
+import pulse.search.statistics.EmptyCorrelationTest;
+import pulse.search.statistics.NormalityTest;
+import pulse.search.statistics.RSquaredTest;
+import pulse.search.statistics.ResidualStatistic;
+import pulse.search.statistics.SumOfSquares;
+import pulse.tasks.SearchTask;
+import pulse.tasks.logs.Status;
+
+class GradientValidation {
+
+	private SearchTask task;
+
+	@BeforeAll
+	static void selectStatistics() {
+		ResidualStatistic.setSelectedOptimiserDescriptor(new SumOfSquares().getDescriptor());
+		NormalityTest.setSelectedTestDescriptor(new RSquaredTest().getDescriptor());
+		CorrelationTest.setSelectedTestDescriptor(new EmptyCorrelationTest().getDescriptor());
+		PathOptimiser.setGradientResolution(def(GRADIENT_RESOLUTION));
+	}
+
+	/*
+	 * The experimental data is the solution of the classical problem with a
+	 * different heat loss, delayed by a small time shift. The default search
+	 * parameters are complemented by the time shift.
+	 */
+
+	@BeforeEach
+	void setUp() {
+		var reference = new ClassicalProblem();
+		reference.getProperties().setHeatLoss(derive(HEAT_LOSS, 0.1));
+		new ImplicitLinearisedSolver().solve(reference);
+
+		var solution = reference.getHeatingCurve();
+		final double delay = 0.01 * solution.timeAt(solution.actualNumPoints() - 1);
+
+		var data = new ExperimentalData();
+		data.setMetadata(new Metadata(derive(TEST_TEMPERATURE, 298.0), -1));
+		for (int i = 0; i < solution.actualNumPoints(); i++)
+			data.addPoint(solution.timeAt(i) + delay, solution.signalAt(i));
+		data.setRange(new Range(data.getTimeSequence()));
+
+		task = new SearchTask(data);
+		task.setProblem(new ClassicalProblem());
+		task.setScheme(new ImplicitLinearisedSolver());
+		task.getProblem().getHeatingCurve().setTimeShift(derive(TIME_SHIFT, 0.5 * delay));
+
+		ActiveFlags.getProblemIndependentFlags().stream().filter(flag -> flag.getType() == TIME_SHIFT)
+				.forEach(flag -> flag.setValue(true));
+	}
+
+	@AfterEach
+	void tearDown() {
+		ActiveFlags.reset();
+	}
+
+	/*
+	 * The central-difference gradient evaluated sequentially on the task itself,
+	 * using the same perturbation as the path optimiser.
+	 */
+
+	private Vector sequentialGradient(IndexedVector params, double dx) {
+		final int n = params.dimension();
+		var grad = new Vector(n);
+
+		for (int i = 0; i < n; i++) {
+			final var shift = new Vector(n);
+			shift.set(i, 0.5 * dx);
+
+			task.assign(new IndexedVector(params.sum(shift), params.getIndices()));
+			final double plus = task.solveProblemAndCalculateDeviation();
+
+			task.assign(new IndexedVector(params.subtract(shift), params.getIndices()));
+			final double minus = task.solveProblemAndCalculateDeviation();
+
+			grad.set(i, (plus - minus) / dx);
+		}
+
+		task.assign(params);
+		return grad;
+	}
+
+	@Test
+	void testConcurrentGradient() {
+		final var params = task.searchVector()[0];
+		assertTrue(params.getIndices().contains(TIME_SHIFT));
+
+		final double dx = 2.0 * (double) PathOptimiser.getGradientResolution().getValue();
+		var expected = sequentialGradient(params, dx);
+
+		var actual = PathOptimiser.gradient(task);
+
+		// the gradient has been evaluated on replicas of the task
+
+		assertEquals(2 * params.dimension(), task.replicas(0).size());
+		assertTrue(task.getStatus() != Status.FAILED);
+
+		/*
+		 * Each replica solves exactly the same problem as the task would, so the
+		 * components should agree to the last bit.
+		 */
+
+		for (int i = 0; i < params.dimension(); i++)
+			assertEquals(expected.get(i), actual.get(i), "Component " + params.getIndices().get(i));
+
+		assertTrue(actual.get(params.getIndices().indexOf(TIME_SHIFT)) != 0.0);
+
+		// the state of the task itself is left unchanged
+
+		var after = task.searchVector()[0];
+		for (int i = 0; i < params.dimension(); i++)
+			assertEquals(params.get(i), after.get(i));
+	}
+
+}
@@ -1,6 +1,7 @@
 package repository;
 
 import static java.lang.Math.pow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static pulse.properties.NumericProperties.derive;
 import static pulse.properties.NumericPropertyKeyword.INTEGRATION_SEGMENTS;
@@ -22,6 +23,7 @@ import pulse.math.Segment;
 import pulse.problem.schemes.rte.BlackbodySpectrum;
 import pulse.problem.schemes.rte.exact.ChandrasekharsQuadrature;
 import pulse.problem.schemes.rte.exact.CompositionProduct;
+import pulse.problem.schemes.rte.exact.ExponentialIntegrals;
 import pulse.problem.schemes.rte.exact.NewtonCotesQuadrature;
 import pulse.problem.statements.ParticipatingMedium;
 
@@ -30,6 +32,7 @@ class QuadratureValidation {
 	private static ParticipatingMedium problem;
 	private static List<Double> testProfile;
 	private static UnivariateFunction interpolation;
+	private static double[] nodalTemperatures;
 	
 	private BlackbodySpectrum ef;
 	
@@ -44,6 +47,7 @@ class QuadratureValidation {
 		problem = new NonscatteringTestCase(testProfile.size(), 0.1).getTestProblem();
 	
 		var tempArray = testProfile.stream().mapToDouble(d -> d).toArray();
+		nodalTemperatures = tempArray;
 		
 		var xArray = new double[tempArray.length + 1];
 		IntStream.range(0, xArray.length).forEach(i -> xArray[i] = (i-1)*opticalThickness/(tempArray.length - 1.0));
@@ -78,7 +82,7 @@ class QuadratureValidation {
 		quad1 = new ChandrasekharsQuadrature();
 		quad2 = new NewtonCotesQuadrature();
 		ef = new BlackbodySpectrum(problem);
-		ef.setInterpolation( interpolation );
+		ef.setTemperatureProfile(interpolation, nodalTemperatures);
 	}
 
 	private boolean test(final double margin) {
@@ -124,6 +128,45 @@ class QuadratureValidation {
 		assertTrue(approximatelyEquals(result, 1961.617, 1E-6));
 	}
 	
+	/*
+	 * Reference values of E1 to E4, calculated from the power series of E1 and the
+	 * upward recurrence in 80-digit arithmetic.
+	 */
+
+	private final static double[] EXP_INT_ARGUMENTS = { 1E-3, 0.5, 1.0, 2.5, 7.0, 19.9, 20.0 };
+
+	private final static double[][] EXP_INT_VALUES = {
+			{ 6.331539364136e+00, 9.926689604692e-01, 4.990039154365e-01, 3.328338319726e-01 },
+			{ 5.597735947762e-01, 3.266438623246e-01, 2.216043642752e-01, 1.652428258583e-01 },
+			{ 2.193839343955e-01, 1.484955067759e-01, 1.096919671978e-01, 8.606249132456e-02 },
+			{ 2.491491787027e-02, 1.979770394822e-02, 1.629536937667e-02, 1.378219172741e-02 },
+			{ 1.154817316103e-04, 1.035098442821e-04, 9.365652778974e-05, 8.542875700878e-05 },
+			{ 1.092215649960e-10, 1.044178977846e-10, 1.000054376457e-10, 9.593961068527e-11 },
+			{ 9.835525290650e-11, 9.404856430858e-11, 9.009116813346e-11, 8.644341992309e-11 } };
+
+	@Test
+	void testExponentialIntegrals() {
+		for (int n = 1; n < 5; n++) {
+			var e = ExponentialIntegrals.get(n);
+
+			for (int i = 0; i < EXP_INT_ARGUMENTS.length; i++) {
+				final double t = EXP_INT_ARGUMENTS[i];
+				final double expected = EXP_INT_VALUES[i][n - 1];
+				final double actual = e.valueAt(t);
+
+				assertEquals(expected, actual, 2.3E-7, "E" + n + "(" + t + ")");
+
+				// near the cutoff, the values are tiny: check the relative error
+				if (t > 19.0)
+					assertEquals(1.0, actual / expected, n == 1 ? 5E-8 : 5E-5, "E" + n + "(" + t + ")");
+			}
+
+			// below 1E-8, E1 returns zero and the higher orders return their limits at t = 0
+			assertEquals(n == 1 ? 0.0 : 1.0 / (n - 1), e.valueAt(1E-9), 1E-15);
+			assertEquals(n == 1 ? 0.0 : 1.0 / (n - 1), e.valueAt(0.0), 1E-15);
+		}
+	}
+
 	@Test
 	void testNewtonCotes() {
 		prepareFirstOrder(quad2);
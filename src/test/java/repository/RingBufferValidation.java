@@ -0,0 +1,95 @@
+package repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import pulse.util.RingBuffer;
+
+class RingBufferValidation {
+
+	private static List<Integer> range(int from, int to) {
+		return IntStream.range(from, to).boxed().collect(Collectors.toList());
+	}
+
+	@Test
+	void testEmpty() {
+		var buffer = new RingBuffer<Integer>(4);
+		assertTrue(buffer.snapshot().isEmpty());
+		assertNull(buffer.last());
+		assertEquals(0, buffer.discarded());
+		assertThrows(IllegalArgumentException.class, () -> new RingBuffer<Integer>(0));
+	}
+
+	@Test
+	void testWrapAround() {
+		final int capacity = 5;
+		var buffer = new RingBuffer<Integer>(capacity);
+
+		for (int i = 0; i < 3 * capacity + 2; i++) {
+			buffer.add(i);
+
+			final int retained = Math.min(i + 1, capacity);
+			assertEquals(range(i + 1 - retained, i + 1), buffer.snapshot()); // oldest to newest
+			assertEquals(Integer.valueOf(i), buffer.last());
+			assertEquals(i + 1 - retained, buffer.discarded());
+		}
+
+		assertEquals(capacity, buffer.getCapacity());
+	}
+
+	@Test
+	void testUnitCapacity() {
+		var buffer = new RingBuffer<String>(1);
+		buffer.add("a");
+		buffer.add("b");
+		assertEquals(List.of("b"), buffer.snapshot());
+		assertEquals("b", buffer.last());
+		assertEquals(1, buffer.discarded());
+	}
+
+	@Test
+	void testConcurrentAdd() throws InterruptedException {
+		final int threads = 4;
+		final int perThread = 10000;
+		final int capacity = 64;
+
+		var buffer = new RingBuffer<Integer>(capacity);
+		var workers = new ArrayList<Thread>();
+
+		for (int t = 0; t < threads; t++) {
+			final int offset = t * perThread;
+			var worker = new Thread(() -> {
+				for (int i = 0; i < perThread; i++)
+					buffer.add(offset + i);
+			});
+			workers.add(worker);
+			worker.start();
+		}
+
+		for (var worker : workers)
+			worker.join();
+
+		var snapshot = buffer.snapshot();
+		assertEquals(capacity, snapshot.size());
+		assertEquals(threads * perThread - capacity, buffer.discarded());
+		assertEquals(snapshot.get(capacity - 1), buffer.last());
+
+		// elements added by the same thread retain their order
+		for (int i = 1; i < snapshot.size(); i++) {
+			final int a = snapshot.get(i - 1);
+			final int b = snapshot.get(i);
+			if (a / perThread == b / perThread)
+				assertTrue(a < b);
+		}
+	}
+
+}
@@ -0,0 +1,133 @@
+package repository;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import org.apache.commons.math3.stat.correlation.Covariance;
+import org.apache.commons.math3.stat.correlation.PearsonsCorrelation;
+import org.apache.commons.math3.stat.descriptive.moment.Mean;
+import org.junit.jupiter.api.Test;
+
+import pulse.math.SlidingWindowStatistics;
+
+class SlidingWindowStatisticsValidation {
+
+	private final static double EPS_MEAN = 1E-14;
+	private final static double EPS_COVARIANCE = 1E-11;
+	private final static double EPS_CORRELATION = 1E-10;
+
+	/*
+	 * Recalculates the statistics of the retained samples with commons-math and
+	 * compares them with the incremental values. Population (biased) estimates are
+	 * used for the covariances.
+	 */
+
+	private static void compare(SlidingWindowStatistics window, ArrayDeque<double[]> samples) {
+		final int n = samples.size();
+		final int d = window.getDimension();
+
+		assertEquals(n, window.size());
+
+		var data = new double[d][n];
+		int k = 0;
+		for (var x : samples) {
+			for (int i = 0; i < d; i++)
+				data[i][k] = x[i];
+			k++;
+		}
+
+		var covariance = new Covariance();
+		var pearson = new PearsonsCorrelation();
+
+		for (int i = 0; i < d; i++) {
+			assertArrayEquals(data[i], window.component(i, new double[n]));
+
+			final double mean = new Mean().evaluate(data[i]);
+			assertEquals(mean, window.mean(i), EPS_MEAN * (1 + Math.abs(mean)));
+
+			for (int j = 0; j <= i; j++) {
+				final double cov = n > 1 ? covariance.covariance(data[i], data[j], false) : 0.0;
+				assertEquals(cov, window.covariance(i, j), EPS_COVARIANCE);
+				assertEquals(cov, window.covariance(j, i), EPS_COVARIANCE);
+			}
+
+			assertEquals(n > 1 ? covariance.covariance(data[i], data[i], false) : 0.0, window.variance(i),
+					EPS_COVARIANCE);
+
+			if (n > 1)
+				for (int j = 0; j < i; j++)
+					assertEquals(pearson.correlation(data[i], data[j]), window.correlation(i, j), EPS_CORRELATION);
+		}
+	}
+
+	@Test
+	void testAgainstBruteForce() {
+		final int capacity = 37;
+		final int dimension = 4;
+
+		var window = new SlidingWindowStatistics(capacity, dimension);
+		var samples = new ArrayDeque<double[]>();
+		var random = new Random(1);
+
+		for (int step = 0; step < 5000; step++) {
+			var x = new double[dimension];
+			x[0] = random.nextGaussian();
+			x[1] = 2.0 * x[0] + 0.1 * random.nextGaussian();
+			x[2] = 1E3 + random.nextDouble(); // large mean, small spread
+			x[3] = -x[0] + step * 1E-3; // drifting component
+
+			window.add(x);
+			samples.addLast(x);
+			if (samples.size() > capacity)
+				samples.removeFirst();
+
+			assertEquals(samples.size() == capacity, window.isFull());
+
+			if (step % 10 == 0 || step < 2 * capacity)
+				compare(window, samples);
+		}
+
+		compare(window, samples);
+	}
+
+	@Test
+	void testUnitCapacity() {
+		var window = new SlidingWindowStatistics(1, 2);
+
+		for (int step = 1; step <= 10; step++) {
+			window.add(new double[] { step, -2.0 * step });
+
+			assertTrue(window.isFull());
+			assertEquals(1, window.size());
+			assertEquals(step, window.mean(0));
+			assertEquals(-2.0 * step, window.mean(1));
+			assertEquals(0.0, window.variance(0));
+			assertEquals(0.0, window.covariance(0, 1));
+			assertTrue(Double.isNaN(window.correlation(0, 1)));
+			assertArrayEquals(new double[] { step }, window.component(0, new double[1]));
+		}
+	}
+
+	@Test
+	void testClear() {
+		var window = new SlidingWindowStatistics(3, 1);
+		window.add(new double[] { 5.0 });
+		window.add(new double[] { 7.0 });
+		window.clear();
+
+		assertEquals(0, window.size());
+		assertFalse(window.isFull());
+		assertEquals(0.0, window.variance(0));
+
+		window.add(new double[] { 1.0 });
+		window.add(new double[] { 3.0 });
+		assertEquals(2.0, window.mean(0));
+		assertEquals(1.0, window.variance(0), 1E-15);
+	}
+
+}
@@ -0,0 +1,110 @@
+package repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static pulse.properties.NumericProperties.derive;
+import static pulse.properties.NumericPropertyKeyword.DIFFUSIVITY;
+import static pulse.properties.NumericPropertyKeyword.HEAT_LOSS;
+import static pulse.properties.NumericPropertyKeyword.MAXTEMP;
+import static pulse.properties.NumericPropertyKeyword.NUMPOINTS;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pulse.HeatingCurve;
+import pulse.baseline.LinearBaseline;
+import pulse.math.IndexedVector;
+import pulse.math.linear.Vector;
+import pulse.properties.NumericPropertyKeyword;
+import pulse.tasks.processing.SolutionCache;
+
+class SolutionCacheValidation {
+
+	private final static List<NumericPropertyKeyword> indices = List.of(DIFFUSIVITY, HEAT_LOSS, MAXTEMP);
+
+	private SolutionCache cache;
+	private HeatingCurve curve;
+
+	@BeforeEach
+	void setUp() {
+		cache = new SolutionCache();
+		curve = curve(1.0);
+	}
+
+	private static IndexedVector vector(double... x) {
+		return new IndexedVector(new Vector(x), indices);
+	}
+
+	private static HeatingCurve curve(double scale) {
+		var curve = new HeatingCurve(derive(NUMPOINTS, 50));
+		for (int i = 0; i < 50; i++)
+			curve.addPoint(0.01 * i, scale * (1.0 - Math.exp(-0.1 * i)));
+		curve.apply(new LinearBaseline());
+		return curve;
+	}
+
+	@Test
+	void testQuantisedKeys() {
+		var v = vector(1.5E-6, -0.25, 3.0);
+		cache.store(v, 42.0, curve);
+
+		assertEquals(42.0, cache.recall(vector(1.5E-6 * (1 + 1E-12), -0.25 * (1 - 1E-12), 3.0), curve));
+		assertTrue(Double.isNaN(cache.recall(vector(1.5E-6 * (1 + 1E-6), -0.25, 3.0), curve)));
+		assertTrue(Double.isNaN(
+				cache.recall(new IndexedVector(v, List.of(HEAT_LOSS, DIFFUSIVITY, MAXTEMP)), curve)));
+
+		assertEquals(1, cache.getHits());
+		assertEquals(2, cache.getMisses());
+		assertEquals(1.0 / 3.0, cache.hitRate(), 1E-15);
+	}
+
+	@Test
+	void testLeastRecentlyUsedEviction() {
+		final int capacity = cache.getCapacity();
+
+		for (int i = 0; i < capacity; i++)
+			cache.store(vector(i, 0, 0), i, curve);
+
+		assertEquals(0.0, cache.recall(vector(0, 0, 0), curve)); // entry 0 is now the most recent one
+		cache.store(vector(capacity, 0, 0), capacity, curve);
+
+		assertEquals(capacity, cache.size());
+		assertEquals(0.0, cache.recall(vector(0, 0, 0), curve));
+		assertTrue(Double.isNaN(cache.recall(vector(1, 0, 0), curve)));
+		assertEquals(capacity, cache.recall(vector(capacity, 0, 0), curve));
+	}
+
+	@Test
+	void testSnapshotRoundTrip() {
+		var original = curve(1.0);
+		var snapshot = original.snapshot();
+		final double interpolated = original.getSplineInterpolation().value(0.255);
+
+		var other = curve(2.0);
+		other.addPoint(0.5, 0.0);
+		assertFalse(original.equals(other));
+
+		other.restore(snapshot);
+
+		assertEquals(original.actualNumPoints(), other.actualNumPoints());
+		assertTrue(original.equals(other));
+		for (int i = 0; i < original.actualNumPoints(); i++) {
+			assertEquals(original.timeAt(i), other.timeAt(i));
+			assertEquals(original.signalAt(i), other.signalAt(i));
+		}
+		assertEquals(interpolated, other.getSplineInterpolation().value(0.255), 1E-15);
+	}
+
+	@Test
+	void testRecallRestoresCurve() {
+		var solved = curve(3.0);
+		cache.store(vector(1, 2, 3), 7.0, solved);
+
+		assertEquals(7.0, cache.recall(vector(1, 2, 3), curve));
+		assertTrue(solved.equals(curve));
+	}
+
+}